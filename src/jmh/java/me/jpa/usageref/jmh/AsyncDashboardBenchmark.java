@@ -0,0 +1,51 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.async.AsyncMemberQueries;
+import me.jpa.usageref.dto.MemberDashboard;
+import me.jpa.usageref.dto.MemberSortKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 500 명이 동시에 AsyncMemberQueries 로 대시보드를 조회할 때 한 명이 결과를 받기까지의 응답 시간 분포(p50, p99) 를 측정한다.
+ * <p>
+ * 동시 실행 수는 커넥션 풀 크기(10) 로 제한되기 때문에 나머지 호출은 permit 을 기다리며, 기다린 시간이 p99 에 나타난다.
+ * 대시보드 하나는 두 개의 작업으로 실행되므로 queue 가 가득 차지 않도록 queue-capacity 를 호출 수의 두 배로 설정한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(AsyncDashboardBenchmark.CALLER_COUNT)
+public class AsyncDashboardBenchmark {
+    static final int CALLER_COUNT = 500;
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private BenchmarkContext context;
+    private AsyncMemberQueries asyncMemberQueries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("async-dashboard", "usageref.async.queue-capacity=" + CALLER_COUNT * 2)
+                .withMembers(MEMBER_COUNT);
+        asyncMemberQueries = context.getBean(AsyncMemberQueries.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nmax concurrency : %d, peak concurrency : %d%n",
+                asyncMemberQueries.getMaxConcurrency(), asyncMemberQueries.getPeakConcurrency());
+        context.close();
+    }
+
+    @Benchmark
+    public MemberDashboard loadDashboard() {
+        return asyncMemberQueries.loadDashboard(MemberSortKey.AGE_ID, null, PAGE_SIZE).join();
+    }
+}
@@ -0,0 +1,114 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.UsageRefApplication;
+import me.jpa.usageref.dto.MemberRecord;
+import me.jpa.usageref.service.MemberBulkImporter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class BenchmarkContext implements AutoCloseable {
+    public static final int TEAM_COUNT = 100;
+    public static final int AGE_BOUND = 100;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    private BenchmarkContext(ConfigurableApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * SpringApplicationBuilder.properties(..) 는 기본값이라 application-production.yml 의 설정보다 우선순위가 낮기 때문에
+     * 벤치마크 설정은 command line 인자로 전달한다.
+     */
+    public static BenchmarkContext start(String databaseName, String... properties) {
+        Stream<String> defaults = Stream.of("spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "spring.jmx.enabled=false",
+                "logging.level.root=warn",
+                // 테스트 데이터를 저장하는 트랜잭션은 leak-detection-threshold 보다 오래 커넥션을 사용한다.
+                "spring.datasource.hikari.leak-detection-threshold=0",
+                // 이전 실행의 검색 인덱스가 남아있지 않도록 실행마다 새 디렉터리를 사용한다.
+                "usageref.search.index-base=" + createIndexBase(databaseName));
+        String[] args = Stream.concat(defaults, Stream.of(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+
+        ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(UsageRefApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("production")
+                .run(args);
+        return new BenchmarkContext(applicationContext);
+    }
+
+    private static Path createIndexBase(String databaseName) {
+        try {
+            return Files.createTempDirectory("usageref-" + databaseName + "-index");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public BenchmarkContext withMembers(int memberCount) {
+        getBean(MemberBulkImporter.class).importRecords(memberRecords(memberCount));
+        return this;
+    }
+
+    /**
+     * 주문마다 상품을 하나씩 만들고, 저장된 멤버에게 순서대로 나누어 주문을 저장한다.
+     * 100 만 건을 엔티티로 저장하면 오래 걸리기 때문에 SQL 로 저장하고 sequence 를 저장한 id 다음부터 시작하도록 변경한다.
+     */
+    public BenchmarkContext withOrders(int orderCount) {
+        JdbcTemplate jdbcTemplate = getBean(JdbcTemplate.class);
+        long firstMemberId = jdbcTemplate.queryForObject("select min(id) from member", Long.class);
+        long memberCount = jdbcTemplate.queryForObject("select count(*) from member", Long.class);
+        long lastMemberId = jdbcTemplate.queryForObject("select max(id) from member", Long.class);
+        if (lastMemberId - firstMemberId + 1 != memberCount) throw new IllegalStateException("멤버 id 가 연속되지 않습니다.");
+
+        jdbcTemplate.update("insert into product (id, name) select x, 'product' || x from system_range(1, ?)", orderCount);
+        jdbcTemplate.update("insert into orders (id, member_id, product_id) select x, ? + mod(x, ?), x from system_range(1, ?)",
+                firstMemberId, memberCount, orderCount);
+        jdbcTemplate.execute("alter sequence product_seq restart with " + (orderCount + 1));
+        jdbcTemplate.execute("alter sequence orders_seq restart with " + (orderCount + 1));
+        return this;
+    }
+
+    private Iterator<MemberRecord> memberRecords(int memberCount) {
+        return IntStream.range(0, memberCount)
+                .mapToObj(i -> MemberRecord.builder()
+                        .name("member" + i)
+                        .age(i % AGE_BOUND)
+                        .city("city" + (i % 10))
+                        .street("street" + i)
+                        .teamName("team" + (i % TEAM_COUNT))
+                        .build())
+                .iterator();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return applicationContext.getBean(type);
+    }
+
+    public EntityManager createEntityManager() {
+        return getBean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+}
@@ -0,0 +1,108 @@
+package me.jpa.usageref.jmh;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.jpa.usageref.dto.MemberItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 크기별로 동시에 Member 를 조회하는 스레드 수를 늘려가며 처리량이 더 이상 늘지 않는 지점(knee) 을 찾는다.
+ * <p>
+ * 스레드 수는 JMH 실행 옵션이기 때문에 main 에서 스레드 수를 바꿔가며 실행한다.
+ * ex) java -cp build/libs/*-jmh.jar me.jpa.usageref.jmh.ConnectionPoolBenchmark 10 20
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConnectionPoolBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final double KNEE_GAIN = 1.1;
+
+    @Param({"10"})
+    private int poolSize;
+
+    private BenchmarkContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("connection-pool" + poolSize,
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize)
+                .withMembers(MEMBER_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Timer acquire = context.getBean(MeterRegistry.class).get("hikaricp.connections.acquire").timer();
+        System.out.println("POOL SIZE : " + poolSize +
+                ", ACQUIRE MEAN : " + acquire.mean(TimeUnit.MICROSECONDS) + "us" +
+                ", ACQUIRE MAX : " + acquire.max(TimeUnit.MICROSECONDS) + "us");
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemberItem> findByName() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m where m.name = :name", MemberItem.class)
+                    .setParameter("name", "member" + ThreadLocalRandom.current().nextInt(MEMBER_COUNT))
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String[] poolSizes = args.length == 0 ? new String[]{"10"} : args;
+        for (String poolSize : poolSizes) {
+            Map<Integer, Double> throughputs = new LinkedHashMap<>();
+            for (int threads : THREAD_COUNTS) {
+                Options options = new OptionsBuilder()
+                        .include(ConnectionPoolBenchmark.class.getSimpleName())
+                        .param("poolSize", poolSize)
+                        .threads(threads)
+                        .forks(1)
+                        .warmupIterations(2)
+                        .measurementIterations(3)
+                        .build();
+                Collection<RunResult> results = new Runner(options).run();
+                throughputs.put(threads, results.iterator().next().getPrimaryResult().getScore());
+            }
+            printKnee(poolSize, throughputs);
+        }
+    }
+
+    /**
+     * 스레드 수를 두 배로 늘려도 처리량이 10% 이상 늘지 않는 첫 지점을 knee 로 본다.
+     */
+    private static void printKnee(String poolSize, Map<Integer, Double> throughputs) {
+        System.out.println("POOL SIZE : " + poolSize);
+        Integer knee = null;
+        Double previous = null;
+        Integer previousThreads = null;
+        for (Map.Entry<Integer, Double> entry : throughputs.entrySet()) {
+            System.out.printf("  THREADS : %3d, THROUGHPUT : %.1f ops/s%n", entry.getKey(), entry.getValue());
+            if (knee == null && previous != null && entry.getValue() < previous * KNEE_GAIN) knee = previousThreads;
+            previous = entry.getValue();
+            previousThreads = entry.getKey();
+        }
+        System.out.println("  KNEE : " + (knee == null ? "not reached" : knee + " threads"));
+    }
+}
@@ -0,0 +1,105 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberPatch;
+import me.jpa.usageref.dto.MemberUpdateResult;
+import me.jpa.usageref.service.MemberDetachedUpdater;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 준영속 멤버의 이름을 변경할 때 merge() 와 version 조건의 UPDATE 를 비교한다.
+ * <p>
+ * merge() 는 2차 캐시에 멤버가 있으면 SELECT 를 생략하기 때문에 2차 캐시 사용 여부에 따라 나누어 측정하고,
+ * 수정 한 건마다 실행된 SQL 수는 trial 이 끝날 때 Hibernate Statistics 로 출력한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DetachedUpdateBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int DETACHED_COUNT = 10_000;
+
+    @Param({"false", "true"})
+    private boolean secondLevelCache;
+
+    private BenchmarkContext context;
+    private MemberDetachedUpdater memberDetachedUpdater;
+    private Statistics statistics;
+
+    private Member[] detachedMembers;
+    private long[] versions;
+    private int operationCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("detached-update", "usageref.cache.enabled=" + secondLevelCache)
+                .withMembers(MEMBER_COUNT);
+        memberDetachedUpdater = context.getBean(MemberDetachedUpdater.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        detachedMembers = loadDetachedMembers();
+        versions = new long[DETACHED_COUNT];
+        for (int i = 0; i < DETACHED_COUNT; i++) versions[i] = detachedMembers[i].getVersion();
+        statistics.clear();
+    }
+
+    private Member[] loadDetachedMembers() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            List<Member> members = entityManager.createQuery("select m from Member m order by m.id", Member.class)
+                    .setMaxResults(DETACHED_COUNT)
+                    .getResultList();
+            return members.toArray(new Member[0]);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nstatements per update : %.2f (cache hits : %d)%n",
+                (double) statistics.getPrepareStatementCount() / operationCount, statistics.getSecondLevelCacheHitCount());
+        context.close();
+    }
+
+    @Benchmark
+    public Member merge() {
+        int index = operationCount++ % DETACHED_COUNT;
+        Member detached = detachedMembers[index];
+        detached.changeName("member" + operationCount);
+
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Member merged = entityManager.merge(detached);
+            entityManager.getTransaction().commit();
+            detachedMembers[index] = merged;
+            return merged;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public MemberUpdateResult versionedUpdate() {
+        int index = operationCount++ % DETACHED_COUNT;
+        MemberUpdateResult result = memberDetachedUpdater.update(MemberPatch.builder()
+                .id(detachedMembers[index].getId())
+                .version(versions[index])
+                .name("member" + operationCount)
+                .build());
+        versions[index] = result.getVersion();
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 영속성 컨텍스트에 멤버 10,000 / 100,000 명을 조회하고 1% 를 변경한 뒤 flush 하는 시간을 측정한다.
+ * <p>
+ * bytecode enhancement 를 적용하지 않으면 flush 시 모든 멤버의 필드를 스냅샷과 비교하고,
+ * in-line dirty tracking 을 적용하면 변경된 필드를 기록한 멤버만 UPDATE 대상으로 확인한다.
+ * ex) gradle jmh -PjmhInclude=FlushBenchmark -PhibernateEnhance=false
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class FlushBenchmark {
+    private static final int MODIFY_INTERVAL = 100;
+    private static final String HIBERNATE_ENHANCE_PROPERTY = "usageref.hibernate-enhance";
+
+    @Param({"10000", "100000"})
+    private int memberCount;
+
+    private BenchmarkContext context;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        verifyEnhancement();
+        context = BenchmarkContext.start("flush" + memberCount).withMembers(memberCount);
+    }
+
+    /**
+     * gradle jmh 는 -PhibernateEnhance 설정을 usageref.hibernate-enhance 로 전달한다.
+     * 이전 빌드의 클래스가 남아서 설정과 다른 클래스를 측정하지 않도록 enhancement 여부가 다르면 실행하지 않는다.
+     */
+    private void verifyEnhancement() {
+        String hibernateEnhance = System.getProperty(HIBERNATE_ENHANCE_PROPERTY);
+        boolean enhanced = SelfDirtinessTracker.class.isAssignableFrom(Member.class);
+        if (hibernateEnhance != null && Boolean.parseBoolean(hibernateEnhance) != enhanced) {
+            throw new IllegalStateException("hibernateEnhance=" + hibernateEnhance + " 이지만 Member 의 enhancement 여부는 " + enhanced + " 입니다.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void loadAndModifyMembers() {
+        entityManager = context.createEntityManager();
+        entityManager.getTransaction().begin();
+        List<Member> members = entityManager.createQuery("select m from Member m", Member.class)
+                .getResultList();
+        IntStream.range(0, members.size())
+                .filter(i -> i % MODIFY_INTERVAL == 0)
+                .mapToObj(members::get)
+                .forEach(member -> member.changeAge(member.getAge() + 1));
+    }
+
+    @TearDown(Level.Iteration)
+    public void rollback() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    @Benchmark
+    public void flush() {
+        entityManager.flush();
+    }
+}
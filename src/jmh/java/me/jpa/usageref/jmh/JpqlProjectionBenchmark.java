@@ -0,0 +1,95 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JpqlProjectionBenchmark {
+    private static final int AGE = 28;
+
+    @Param({"1000", "100000", "1000000"})
+    private int memberCount;
+
+    private BenchmarkContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("projection" + memberCount).withMembers(memberCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> entityProjection() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select m from Member m where m.age = :age", Member.class)
+                    .setParameter("age", AGE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Object[]> scalarProjection() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select m.name, m.age from Member m where m.age = :age", Object[].class)
+                    .setParameter("age", AGE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<MemberItem> constructorProjection() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m where m.age = :age", MemberItem.class)
+                    .setParameter("age", AGE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Member> pagination() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select m from Member m", Member.class)
+                    .setFirstResult(0)
+                    .setMaxResults(10)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Object[]> groupByAndHaving() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select t.name, count(m.age), sum(m.age), avg(m.age), max(m.age), min(m.age) from Member m left join m.team t group by t.name having avg(m.age) > 1.0", Object[].class)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.BulkUpdateReport;
+import me.jpa.usageref.service.MemberBulkUpdater;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100,000 명의 나이를 변경할 때 변경 감지(조회 후 수정) 와 JPQL 벌크 UPDATE 를 비교한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class MemberBulkUpdateBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+
+    private BenchmarkContext context;
+    private MemberBulkUpdater memberBulkUpdater;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bulk-update").withMembers(MEMBER_COUNT);
+        memberBulkUpdater = context.getBean(MemberBulkUpdater.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int dirtyChecking() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<Member> members = entityManager.createQuery("select m from Member m where m.age >= 0", Member.class)
+                    .getResultList();
+            members.forEach(member -> member.changeAge(member.getAge() + 1));
+            entityManager.getTransaction().commit();
+            return members.size();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public BulkUpdateReport bulkUpdate() {
+        return memberBulkUpdater.increaseAge(0, 1);
+    }
+}
@@ -0,0 +1,110 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.service.MemberQueryService;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 무작위 순서의 식별자 목록으로 멤버를 조회할 때 식별자마다 find() 를 호출하는 경우,
+ * Hibernate multiLoad 와 MemberQueryService.loadMembersByIds 를 비교한다.
+ * <p>
+ * 2차 캐시에 멤버가 있으면 find() 도 SQL 을 실행하지 않기 때문에 DB 조회 비용을 비교하도록 2차 캐시는 끈다.
+ * IN 절 padding 은 loadMembersByIds 에만 적용되므로 padding 여부에 따라 나누어 측정한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MemberMultiLoadBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int BATCH_SIZE = 512;
+
+    @Param({"10", "1000", "100000"})
+    private int idCount;
+
+    @Param({"true", "false"})
+    private boolean padding;
+
+    private BenchmarkContext context;
+    private MemberQueryService memberQueryService;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("multi-load",
+                "usageref.cache.enabled=false",
+                "usageref.multi-load.batch-size=" + BATCH_SIZE,
+                "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=" + padding)
+                .withMembers(MEMBER_COUNT);
+        memberQueryService = context.getBean(MemberQueryService.class);
+        ids = shuffledIds();
+    }
+
+    private List<Long> shuffledIds() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            long firstId = entityManager.createQuery("select min(m.id) from Member m", Long.class).getSingleResult();
+            List<Long> allIds = LongStream.range(firstId, firstId + MEMBER_COUNT).boxed().collect(toList());
+            Collections.shuffle(allIds, new Random(42));
+            return new ArrayList<>(allIds.subList(0, idCount));
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> findEach() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<Member> members = ids.stream()
+                    .map(id -> entityManager.find(Member.class, id))
+                    .collect(toList());
+            entityManager.getTransaction().commit();
+            return members;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Member> hibernateMultiLoad() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<Member> members = entityManager.unwrap(Session.class)
+                    .byMultipleIds(Member.class)
+                    .withBatchSize(BATCH_SIZE)
+                    .multiLoad(ids);
+            entityManager.getTransaction().commit();
+            return members;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Member> loadMembersByIds() {
+        return memberQueryService.loadMembersByIds(ids);
+    }
+}
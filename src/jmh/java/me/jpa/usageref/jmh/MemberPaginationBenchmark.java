@@ -0,0 +1,96 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberCursor;
+import me.jpa.usageref.dto.MemberPage;
+import me.jpa.usageref.dto.MemberSortKey;
+import me.jpa.usageref.service.MemberPageReader;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberPaginationBenchmark {
+    private static final int MEMBER_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10000"})
+    private int page;
+
+    private BenchmarkContext context;
+    private MemberPageReader memberPageReader;
+    private String idToken;
+    private String ageIdToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("pagination").withMembers(MEMBER_COUNT);
+        memberPageReader = context.getBean(MemberPageReader.class);
+        idToken = tokenBefore(MemberSortKey.ID);
+        ageIdToken = tokenBefore(MemberSortKey.AGE_ID);
+    }
+
+    private String tokenBefore(MemberSortKey sortKey) {
+        if (page == 1) return null;
+
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            Member last = entityManager.createQuery("select m from Member m order by " + sortKey.getOrderBy(), Member.class)
+                    .setFirstResult(offset() - 1)
+                    .setMaxResults(1)
+                    .getSingleResult();
+            return MemberCursor.after(sortKey, last.getAge(), last.getId()).encode();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private int offset() {
+        return (page - 1) * PAGE_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> offsetById() {
+        return offsetPage(MemberSortKey.ID);
+    }
+
+    @Benchmark
+    public List<Member> offsetByAgeAndId() {
+        return offsetPage(MemberSortKey.AGE_ID);
+    }
+
+    private List<Member> offsetPage(MemberSortKey sortKey) {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select m from Member m order by " + sortKey.getOrderBy(), Member.class)
+                    .setFirstResult(offset())
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public MemberPage<Member> keysetById() {
+        return memberPageReader.readMembers(MemberSortKey.ID, idToken, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public MemberPage<Member> keysetByAgeAndId() {
+        return memberPageReader.readMembers(MemberSortKey.AGE_ID, ageIdToken, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,90 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.dto.IndexRebuildReport;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import me.jpa.usageref.search.MemberSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름으로 멤버를 검색할 때 lower(name) like '%x%' 조건으로 member 테이블을 읽는 경우와 Lucene 인덱스에서 찾는 경우를 비교한다.
+ * <p>
+ * 인덱스는 application-production.yml 설정대로 임시 디렉터리의 filesystem 인덱스를 사용한다.
+ * MemberBulkImporter 는 EntityManager.persist 로 저장하므로 Hibernate Search 가 커밋할 때 멤버를 인덱싱한다.
+ * 인덱스를 MassIndexer 로 다시 만드는 시간은 threadsToLoadObjects 에 따라 따로 측정한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MemberSearchBenchmark {
+    private static final int MAX_RESULTS = 20;
+
+    @Param({"10000", "100000"})
+    private int memberCount;
+
+    @Param({"1", "4"})
+    private int threadsToLoadObjects;
+
+    private BenchmarkContext context;
+    private MemberSearchService memberSearchService;
+    private MemberSearchIndexer memberSearchIndexer;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("search",
+                "usageref.cache.enabled=false",
+                "usageref.search.mass-indexer.threads-to-load-objects=" + threadsToLoadObjects)
+                .withMembers(memberCount);
+        memberSearchService = context.getBean(MemberSearchService.class);
+        memberSearchIndexer = context.getBean(MemberSearchIndexer.class);
+        keyword = "member" + (memberCount / 2);
+        if (memberSearchService.searchByNamePrefix(keyword, MAX_RESULTS).isEmpty()) {
+            throw new IllegalStateException("저장한 멤버가 인덱싱되지 않았습니다.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemberItem> likeSearch() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m " +
+                    "where lower(m.name) like :pattern", MemberItem.class)
+                    .setParameter("pattern", "%" + keyword + "%")
+                    .setMaxResults(MAX_RESULTS)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<MemberItem> prefixSearch() {
+        return memberSearchService.searchByNamePrefix(keyword, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public List<MemberItem> fuzzySearch() {
+        return memberSearchService.searchFuzzy(keyword.replace("member", "membr"), MAX_RESULTS);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public IndexRebuildReport rebuildIndex() {
+        return memberSearchIndexer.rebuild();
+    }
+}
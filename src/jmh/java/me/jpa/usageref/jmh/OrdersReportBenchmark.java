@@ -0,0 +1,81 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.dto.OrdersReportFilter;
+import me.jpa.usageref.dto.OrdersReportItem;
+import me.jpa.usageref.dto.OrdersReportPage;
+import me.jpa.usageref.service.OrdersReportService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static org.hibernate.jpa.QueryHints.HINT_FETCHGRAPH;
+
+/**
+ * 주문 1,000,000 건 중 임의의 위치부터 한 페이지의 주문 내역을 조회할 때
+ * 생성자 projection 한 번으로 조회하는 방법과 EntityGraph 로 주문, 멤버, 팀, 상품 엔티티를 조회한 뒤 DTO 로 변환하는 방법을 비교한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class OrdersReportBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int ORDER_COUNT = 1_000_000;
+
+    @Param({"50", "1000"})
+    private int pageSize;
+
+    private BenchmarkContext context;
+    private OrdersReportService ordersReportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("orders-report")
+                .withMembers(MEMBER_COUNT)
+                .withOrders(ORDER_COUNT);
+        ordersReportService = context.getBean(OrdersReportService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrdersReportPage constructorProjection() {
+        return ordersReportService.readPage(OrdersReportFilter.none(), randomAfterOrderId(), pageSize);
+    }
+
+    @Benchmark
+    public List<OrdersReportItem> entityGraph() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            return entityManager.createQuery("select o from Orders o where o.id > :afterOrderId order by o.id", Orders.class)
+                    .setParameter("afterOrderId", randomAfterOrderId())
+                    .setHint(HINT_FETCHGRAPH, entityManager.getEntityGraph(Orders.WITH_MEMBER_TEAM_AND_PRODUCT))
+                    .setMaxResults(pageSize)
+                    .getResultList()
+                    .stream()
+                    .map(order -> new OrdersReportItem(order.getId(),
+                            order.getMember().getName(),
+                            order.getMember().getTeam() == null ? null : order.getMember().getTeam().getName(),
+                            order.getProduct().getName()))
+                    .collect(toList());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private long randomAfterOrderId() {
+        return ThreadLocalRandom.current().nextLong(ORDER_COUNT - pageSize);
+    }
+}
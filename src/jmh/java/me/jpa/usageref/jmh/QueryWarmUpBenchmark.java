@@ -0,0 +1,70 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.MemberItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 시작 직후 첫 요청에서 named query 를 실행하는 시간을 query plan 캐시 warm-up 여부에 따라 비교한다.
+ * <p>
+ * 첫 요청만 측정해야 하므로 fork 마다 애플리케이션을 새로 시작하고 한 번만 측정한다.
+ * warm-up 을 끈 경우에는 hibernate.query.startup_check 도 꺼서 첫 요청에서 HQL 을 파싱하도록 한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class QueryWarmUpBenchmark {
+    private static final int MEMBER_COUNT = 10_000;
+
+    @Param({"false", "true"})
+    private boolean warmUp;
+
+    private BenchmarkContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("query-warm-up",
+                "usageref.query-warm-up.enabled=" + warmUp,
+                "spring.jpa.properties.hibernate.query.startup_check=" + warmUp)
+                .withMembers(MEMBER_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void firstRequest(Blackhole blackhole) {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            blackhole.consume(entityManager.createNamedQuery(Member.ITEMS_BY_NAME, MemberItem.class)
+                    .setParameter("name", "member1")
+                    .getResultList());
+            blackhole.consume(entityManager.createNamedQuery(Member.ITEMS_BY_MIN_AGE, MemberItem.class)
+                    .setParameter("age", BenchmarkContext.AGE_BOUND - 1)
+                    .setMaxResults(20)
+                    .getResultList());
+            blackhole.consume(entityManager.createNamedQuery(Member.COUNT_BY_MIN_AGE, Long.class)
+                    .setParameter("age", BenchmarkContext.AGE_BOUND / 2)
+                    .getSingleResult());
+            blackhole.consume(entityManager.createNamedQuery(Team.BY_NAMES, Team.class)
+                    .setParameter("names", Arrays.asList("team1", "team2"))
+                    .getResultList());
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * 멤버 100,000 명을 영속 엔티티, read-only 엔티티, DTO 로 조회하고 커밋할 때 걸리는 시간과 할당량을 비교한다.
+ * <p>
+ * 커밋 시 flush 에서 실행되는 변경 감지 비용을 포함하기 위해 트랜잭션 안에서 조회한다.
+ * 할당량은 GC profiler 의 gc.alloc.rate.norm 으로 확인한다.
+ * ex) java -cp build/libs/*-jmh.jar me.jpa.usageref.jmh.ReadOnlyQueryBenchmark
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReadOnlyQueryBenchmark {
+    private static final int MEMBER_COUNT = 100_000;
+
+    private BenchmarkContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("read-only-query").withMembers(MEMBER_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> managedEntities() {
+        return inTransaction(entityManager -> entityManager.createQuery("select m from Member m", Member.class)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<Member> readOnlyEntities() {
+        return inTransaction(entityManager -> entityManager.createQuery("select m from Member m", Member.class)
+                .setHint(HINT_READONLY, true)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<MemberItem> dtoProjection() {
+        return inTransaction(entityManager -> entityManager.createNamedQuery(Member.ITEMS, MemberItem.class)
+                .getResultList());
+    }
+
+    private <T> T inTransaction(Function<EntityManager, T> query) {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            T result = query.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadOnlyQueryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,93 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.service.OptimisticLockRetryExecutor;
+import me.jpa.usageref.service.TeamMembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 스레드가 동시에 팀에 가입할 때의 초당 가입 수를 측정한다.
+ * <p>
+ * 같은 팀에 가입하는 트랜잭션은 팀의 version 으로 충돌하기 때문에 teamCount 가 적을수록 재시도가 늘어난다.
+ * 가입 한 번에 발생한 충돌 수(conflict rate) 는 trial 이 끝날 때 OptimisticLockRetryExecutor 의 횟수로 출력한다.
+ * 8 개의 스레드가 한 팀에 몰리면 기본 재시도 횟수(10) 를 넘길 수 있어 재시도 횟수를 늘려서 실패 없이 측정한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+public class TeamJoinBenchmark {
+    private static final int MEMBER_COUNT = 200_000;
+
+    @Param({"1", "10"})
+    private int teamCount;
+
+    private BenchmarkContext context;
+    private TeamMembershipService teamMembershipService;
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    private long[] teamIds;
+    private final AtomicInteger nextMemberId = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("team-join", "usageref.retry.max-attempts=100");
+        teamMembershipService = context.getBean(TeamMembershipService.class);
+        retryExecutor = context.getBean(OptimisticLockRetryExecutor.class);
+        teamIds = saveTeams();
+        saveMembersWithoutTeam();
+        nextMemberId.set(0);
+    }
+
+    /**
+     * team_stats 는 팀을 저장할 때 listener 가 만들기 때문에 팀은 엔티티로 저장한다.
+     */
+    private long[] saveTeams() {
+        EntityManager entityManager = context.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            long[] ids = new long[teamCount];
+            for (int i = 0; i < teamCount; i++) {
+                Team team = Team.builder().name("team" + i).build();
+                entityManager.persist(team);
+                ids[i] = team.getId();
+            }
+            entityManager.getTransaction().commit();
+            return ids;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void saveMembersWithoutTeam() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into member (id, name, age) select x, 'member' || x, mod(x, ?) from system_range(1, ?)",
+                BenchmarkContext.AGE_BOUND, MEMBER_COUNT);
+        jdbcTemplate.execute("alter sequence member_seq restart with " + (MEMBER_COUNT + 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%njoins : %d, conflicts : %d, conflicts per join : %.2f%n",
+                retryExecutor.getExecutionCount(), retryExecutor.getConflictCount(),
+                (double) retryExecutor.getConflictCount() / retryExecutor.getExecutionCount());
+        context.close();
+    }
+
+    @Benchmark
+    public void join() {
+        int memberId = nextMemberId.incrementAndGet();
+        if (memberId > MEMBER_COUNT) throw new IllegalStateException("가입할 멤버가 부족합니다. : " + MEMBER_COUNT);
+        teamMembershipService.join((long) memberId, teamIds[memberId % teamCount]);
+    }
+}
@@ -0,0 +1,50 @@
+package me.jpa.usageref.jmh;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 팀에 teamSize 명의 멤버를 가입시키는 시간을 측정한다.
+ * <p>
+ * 가입 여부는 Member.team (연관관계의 주인) 으로 확인하고 members 는 Set 이기 때문에 가입 한 번이 O(1) 이어야 한다.
+ * 결과를 teamSize 로 나눈 가입 한 번의 비용이 멤버 수와 관계없이 일정해야 하고, List.contains(..) 로 확인하면 teamSize 에 비례해서 늘어난다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TeamMembershipBenchmark {
+    @Param({"10000", "50000", "100000"})
+    private int teamSize;
+
+    private List<Member> members;
+    private Team team;
+
+    /**
+     * 가입한 멤버는 다시 가입할 수 없으므로 매번 새로운 팀과 멤버를 만든다.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        team = Team.builder().id(1L).name("TeamA").build();
+        members = LongStream.rangeClosed(1, teamSize)
+                .mapToObj(id -> Member.builder().id(id).age(10).name("member" + id).build())
+                .collect(toList());
+    }
+
+    @Benchmark
+    public Team addMembers() {
+        members.forEach(team::addMember);
+        return team;
+    }
+}
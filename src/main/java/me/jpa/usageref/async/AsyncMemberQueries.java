@@ -0,0 +1,124 @@
+package me.jpa.usageref.async;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.*;
+import me.jpa.usageref.service.MemberPageReader;
+import me.jpa.usageref.service.TeamStatsService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 멤버 조회를 호출한 스레드가 아닌 executor 에서 실행하고 CompletableFuture 로 결과를 반환한다.
+ * <p>
+ * 작업마다 읽기 전용 트랜잭션을 하나씩 열기 때문에 작업 하나는 하나의 EntityManager 만 사용하고,
+ * 트랜잭션이 끝나면 엔티티는 준영속 상태가 되므로 결과는 모두 DTO 로 반환한다.
+ * 동시에 실행되는 작업의 수는 executor 와 관계 없이 maxConcurrency(커넥션 풀 크기) 로 제한하기 때문에
+ * 스레드 수에 제한이 없는 executor(ex. virtual thread) 로 바꿔도 커넥션을 기다리는 작업이 쌓이지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class AsyncMemberQueries {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MemberPageReader memberPageReader;
+    private final TeamStatsService teamStatsService;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger peakActiveCount = new AtomicInteger();
+
+    public AsyncMemberQueries(Executor executor, int maxConcurrency, PlatformTransactionManager transactionManager,
+                              MemberPageReader memberPageReader, TeamStatsService teamStatsService) {
+        Assert.notNull(executor, "executor cannot be null");
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than zero");
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.memberPageReader = memberPageReader;
+        this.teamStatsService = teamStatsService;
+    }
+
+    public CompletableFuture<List<MemberItem>> findByName(String name) {
+        return supplyAsync(() -> entityManager.createNamedQuery(Member.ITEMS_BY_NAME, MemberItem.class)
+                .setParameter("name", name)
+                .getResultList());
+    }
+
+    public CompletableFuture<List<MemberItem>> findItemsByAgeGreaterThanEqual(int age) {
+        return supplyAsync(() -> entityManager.createNamedQuery(Member.ITEMS_BY_MIN_AGE, MemberItem.class)
+                .setParameter("age", age)
+                .getResultList());
+    }
+
+    public CompletableFuture<Long> countByAgeGreaterThanEqual(int age) {
+        return supplyAsync(() -> entityManager.createNamedQuery(Member.COUNT_BY_MIN_AGE, Long.class)
+                .setParameter("age", age)
+                .getSingleResult());
+    }
+
+    public CompletableFuture<MemberPage<MemberItem>> readPage(MemberSortKey sortKey, String continuationToken, int size) {
+        return supplyAsync(() -> memberPageReader.readItems(sortKey, continuationToken, size));
+    }
+
+    public CompletableFuture<List<TeamStatsItem>> findTeamStats() {
+        return supplyAsync(teamStatsService::findAll);
+    }
+
+    /**
+     * 멤버 페이지와 팀 통계를 서로 다른 작업에서 동시에 조회한 뒤 합친다.
+     */
+    public CompletableFuture<MemberDashboard> loadDashboard(MemberSortKey sortKey, String continuationToken, int size) {
+        return readPage(sortKey, continuationToken, size)
+                .thenCombine(findTeamStats(), MemberDashboard::new);
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquirePermit();
+            try {
+                peakActiveCount.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+                return readOnlyTransactionTemplate.execute(status -> query.get());
+            } finally {
+                activeCount.decrementAndGet();
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private void acquirePermit() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회를 기다리는 중 interrupt 되었습니다.", e);
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return 지금까지 동시에 실행된 조회 작업 수의 최댓값
+     */
+    public int getPeakConcurrency() {
+        return peakActiveCount.get();
+    }
+}
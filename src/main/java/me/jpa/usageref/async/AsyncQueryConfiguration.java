@@ -0,0 +1,62 @@
+package me.jpa.usageref.async;
+
+import com.zaxxer.hikari.HikariDataSource;
+import me.jpa.usageref.routing.ReplicaRoutingDataSource;
+import me.jpa.usageref.service.MemberPageReader;
+import me.jpa.usageref.service.TeamStatsService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executor;
+
+/**
+ * 조회 작업의 동시 실행 수는 usageref.async.max-concurrency 로 지정하고, 지정하지 않으면 Hikari 커넥션 풀의 최대 크기를 사용한다.
+ * 조회는 읽기 전용 트랜잭션이기 때문에 ReplicaRoutingDataSource 를 사용하면 replica 커넥션 풀 크기의 합을 사용하고,
+ * 쓰기 후 primary 에 고정된 읽기가 executor 에서도 primary 를 사용하도록 작업에 고정 상태를 넘긴다.
+ * executor 의 queue 가 가득 차면 작업을 받지 않고 RejectedExecutionException 을 던진다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+public class AsyncQueryConfiguration {
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final DataSource dataSource;
+    private final int maxConcurrency;
+
+    public AsyncQueryConfiguration(DataSource dataSource, @Value("${usageref.async.max-concurrency:0}") int maxConcurrency) {
+        this.dataSource = dataSource;
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : connectionPoolSize(dataSource);
+    }
+
+    private int connectionPoolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource) return ((HikariDataSource) dataSource).getMaximumPoolSize();
+        if (dataSource instanceof ReplicaRoutingDataSource) return ((ReplicaRoutingDataSource) dataSource).getReplicaMaximumPoolSize();
+        return DEFAULT_MAX_CONCURRENCY;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncQueryExecutor(@Value("${usageref.async.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-query-");
+        if (dataSource instanceof ReplicaRoutingDataSource) executor.setTaskDecorator(((ReplicaRoutingDataSource) dataSource)::propagatePin);
+        return executor;
+    }
+
+    @Bean
+    public AsyncMemberQueries asyncMemberQueries(@Qualifier("asyncQueryExecutor") Executor asyncQueryExecutor,
+                                                 PlatformTransactionManager transactionManager,
+                                                 MemberPageReader memberPageReader,
+                                                 TeamStatsService teamStatsService) {
+        return new AsyncMemberQueries(asyncQueryExecutor, maxConcurrency, transactionManager, memberPageReader, teamStatsService);
+    }
+}
@@ -0,0 +1,53 @@
+package me.jpa.usageref.cache;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+
+/**
+ * Ehcache(JCache) 를 Hibernate 2차 캐시로 사용한다.
+ * 캐시 region 별 TTL, 크기는 usageref.cache.config 로 지정한 ehcache.xml 에서 설정한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "usageref.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfiguration {
+    private static final String MISSING_CACHE_FAIL = "fail";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+            ResourceLoader resourceLoader,
+            @Value("${usageref.cache.config:classpath:ehcache.xml}") String cacheConfig) {
+        String cacheConfigUri = resolveUri(resourceLoader.getResource(cacheConfig));
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.PROVIDER, EhcacheCachingProvider.class.getName());
+            hibernateProperties.put(ConfigSettings.CONFIG_URI, cacheConfigUri);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MISSING_CACHE_FAIL);
+        };
+    }
+
+    private String resolveUri(Resource resource) {
+        if (!resource.exists()) throw new IllegalStateException("캐시 설정 파일을 찾을 수 없습니다. : " + resource);
+
+        try {
+            return resource.getURI().toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 설정 파일의 URI 를 확인할 수 없습니다. : " + resource, e);
+        }
+    }
+}
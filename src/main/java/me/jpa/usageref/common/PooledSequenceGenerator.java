@@ -0,0 +1,40 @@
+package me.jpa.usageref.common;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    public static final String STRATEGY = "me.jpa.usageref.common.PooledSequenceGenerator";
+
+    public static final String OPTIMIZER_SETTING = "usageref.id.optimizer";
+    public static final String INCREMENT_SIZE_SETTING = "usageref.id.increment_size";
+    public static final String FORCE_TABLE_USE_SETTING = "usageref.id.force_table_use";
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService configurationService = serviceRegistry.getService(ConfigurationService.class);
+
+        params.putIfAbsent(OPT_PARAM, configurationService.getSetting(OPTIMIZER_SETTING, StandardConverters.STRING,
+                StandardOptimizerDescriptor.POOLED_LO.getExternalName()));
+        params.putIfAbsent(INCREMENT_PARAM, configurationService.getSetting(INCREMENT_SIZE_SETTING, StandardConverters.STRING,
+                String.valueOf(DEFAULT_ALLOCATION_SIZE)));
+        params.putIfAbsent(FORCE_TBL_PARAM, String.valueOf(configurationService.getSetting(FORCE_TABLE_USE_SETTING, StandardConverters.BOOLEAN,
+                false)));
+        params.putIfAbsent(CONFIG_PREFER_SEQUENCE_PER_ENTITY, "true");
+
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package me.jpa.usageref.domain;
 
 import lombok.*;
+import org.hibernate.search.annotations.Analyzer;
+import org.hibernate.search.annotations.Field;
 
 import javax.persistence.Embeddable;
 
@@ -16,6 +18,9 @@ import javax.persistence.Embeddable;
 @EqualsAndHashCode
 @ToString
 public class Address {
+    @Field(analyzer = @Analyzer(definition = Member.SEARCH_ANALYZER))
     private String city;
+
+    @Field(analyzer = @Analyzer(definition = Member.SEARCH_ANALYZER))
     private String street;
 }
@@ -1,6 +1,16 @@
 package me.jpa.usageref.domain;
 
 import lombok.*;
+import me.jpa.usageref.common.PooledSequenceGenerator;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.search.annotations.Analyzer;
+import org.hibernate.search.annotations.Field;
+import org.hibernate.search.annotations.Indexed;
+import org.hibernate.search.annotations.IndexedEmbedded;
+import org.hibernate.search.annotations.Store;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -10,25 +20,58 @@ import javax.persistence.*;
  * @since 2019-05-21
  */
 @Entity
+@Indexed(index = Member.SEARCH_INDEX)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
+@Table(indexes = {
+        @Index(name = "idx_member_name", columnList = "name"),
+        @Index(name = "idx_member_age_id", columnList = "age, id"),
+        @Index(name = "idx_member_team_id", columnList = "team_id")
+})
+@NamedEntityGraph(name = Member.WITH_TEAM, attributeNodes = @NamedAttributeNode("team"))
+@NamedQueries({
+        @NamedQuery(name = Member.ALL_WITH_TEAM, query = "select m from Member m left join fetch m.team"),
+        @NamedQuery(name = Member.BY_IDS, query = "select m from Member m where m.id in :ids"),
+        @NamedQuery(name = Member.ITEMS, query = "select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m order by m.id"),
+        @NamedQuery(name = Member.ITEMS_BY_NAME, query = "select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m where m.name = :name order by m.id"),
+        @NamedQuery(name = Member.ITEMS_BY_MIN_AGE, query = "select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m where m.age >= :age order by m.id"),
+        @NamedQuery(name = Member.COUNT_BY_MIN_AGE, query = "select count(m) from Member m where m.age >= :age")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @EqualsAndHashCode(of = "id")
-@ToString
+@ToString(exclude = "team")
 public class Member {
+    public static final String WITH_TEAM = "Member.withTeam";
+    public static final String ALL_WITH_TEAM = "Member.allWithTeam";
+    public static final String BY_IDS = "Member.byIds";
+    public static final String ITEMS = "Member.items";
+    public static final String ITEMS_BY_NAME = "Member.itemsByName";
+    public static final String ITEMS_BY_MIN_AGE = "Member.itemsByMinAge";
+    public static final String COUNT_BY_MIN_AGE = "Member.countByMinAge";
+    public static final String CACHE_REGION = "usageref.member";
+    public static final String SEARCH_INDEX = "usageref.member";
+    public static final String SEARCH_ANALYZER = "usageref.memberText";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "member_id_generator")
+    @GenericGenerator(name = "member_id_generator", strategy = PooledSequenceGenerator.STRATEGY)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private int age;
 
     @Column(nullable = false)
+    @Field(store = Store.YES, analyzer = @Analyzer(definition = SEARCH_ANALYZER))
     private String name;
 
     @Embedded
+    @IndexedEmbedded
     private Address address;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private Team team;
 
@@ -51,9 +94,11 @@ public class Member {
     }
 
     public void joinTeam(Team team) {
+        Assert.notNull(team, "team cannot be null");
         verifyThatAlreadyJoinedTeam(team);
         checkSameTeam(team);
         this.team = team;
+        team.registerMember(this);
     }
 
     private void verifyThatAlreadyJoinedTeam(Team team) {
@@ -64,7 +109,23 @@ public class Member {
         if (this.team != null && this.team.equals(team)) throw new RuntimeException("동일한 팀입니다.");
     }
 
+    /**
+     * 팀이 초기화되지 않은 프록시이면 members 도 초기화되지 않았으므로 팀을 조회하지 않는다.
+     */
+    @PostPersist
+    void registerToTeam() {
+        if (team != null && Hibernate.isInitialized(team)) team.registerMember(this);
+    }
+
     public void changeName(String name) {
         checkNullAndSetName(name);
     }
+
+    public void changeAge(int age) {
+        validateAndSetAge(age);
+    }
+
+    public void changeAddress(Address address) {
+        this.address = address;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package me.jpa.usageref.domain;
 
 import lombok.*;
+import me.jpa.usageref.common.PooledSequenceGenerator;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -10,19 +12,45 @@ import javax.persistence.*;
  * @since 2019-05-23
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_orders_member_id", columnList = "member_id"),
+        @Index(name = "idx_orders_product_id", columnList = "product_id")
+})
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Orders.WITH_MEMBER_AND_PRODUCT, attributeNodes = {
+                @NamedAttributeNode("member"),
+                @NamedAttributeNode("product")
+        }),
+        @NamedEntityGraph(name = Orders.WITH_MEMBER_TEAM_AND_PRODUCT, attributeNodes = {
+                @NamedAttributeNode(value = "member", subgraph = "member.team"),
+                @NamedAttributeNode("product")
+        }, subgraphs = @NamedSubgraph(name = "member.team", attributeNodes = @NamedAttributeNode("team")))
+})
+@NamedQueries({
+        @NamedQuery(name = Orders.ALL, query = "select o from Orders o"),
+        @NamedQuery(name = Orders.ITEMS, query = "select new me.jpa.usageref.dto.OrdersItem(o.id, m.name, p.name) " +
+                "from Orders o join o.member m join o.product p " +
+                "order by o.id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@ToString
+@ToString(exclude = {"member", "product"})
 public class Orders {
+    public static final String WITH_MEMBER_AND_PRODUCT = "Orders.withMemberAndProduct";
+    public static final String WITH_MEMBER_TEAM_AND_PRODUCT = "Orders.withMemberTeamAndProduct";
+    public static final String ALL = "Orders.all";
+    public static final String ITEMS = "Orders.items";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "orders_id_generator")
+    @GenericGenerator(name = "orders_id_generator", strategy = PooledSequenceGenerator.STRATEGY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private Member member;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private Product product;
 
@@ -1,6 +1,10 @@
 package me.jpa.usageref.domain;
 
 import lombok.*;
+import me.jpa.usageref.common.PooledSequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -10,12 +14,16 @@ import javax.persistence.*;
  * @since 2019-05-23
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString
 public class Product {
+    public static final String CACHE_REGION = "usageref.product";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "product_id_generator")
+    @GenericGenerator(name = "product_id_generator", strategy = PooledSequenceGenerator.STRATEGY)
     private Long id;
 
     @Column(nullable = false)
@@ -1,31 +1,72 @@
 package me.jpa.usageref.domain;
 
 import lombok.*;
+import me.jpa.usageref.common.PooledSequenceGenerator;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * @author Minhyuk Yoon (ymh92730@gmail.com)
  * @since 2019-05-21
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Team.CACHE_REGION)
+@NamedQueries({
+        @NamedQuery(name = Team.ALL, query = "select t from Team t order by t.name"),
+        @NamedQuery(name = Team.ITEMS, query = "select new me.jpa.usageref.dto.TeamItem(t.id, t.name) from Team t order by t.name"),
+        @NamedQuery(name = Team.BY_NAME, query = "select t from Team t where t.name = :name"),
+        @NamedQuery(name = Team.BY_NAMES, query = "select t from Team t where t.name in :names"),
+        @NamedQuery(name = Team.MEMBER_STATS, query = "select new me.jpa.usageref.dto.TeamStatsItem(t.name, count(m), coalesce(sum(m.age), 0), min(m.age), max(m.age)) " +
+                "from Team t left join t.members m " +
+                "group by t.id, t.name " +
+                "order by t.name")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @EqualsAndHashCode(of = {"id", "name"})
-@ToString
+@ToString(exclude = "members")
 public class Team {
+    public static final String CACHE_REGION = "usageref.team";
+    public static final String MEMBERS_CACHE_REGION = "usageref.team.members";
+    public static final String ALL = "Team.all";
+    public static final String ITEMS = "Team.items";
+    public static final String BY_NAME = "Team.byName";
+    public static final String BY_NAMES = "Team.byNames";
+    public static final String MEMBER_STATS = "Team.memberStats";
+    public static final int MEMBERS_BATCH_SIZE = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "team_id_generator")
+    @GenericGenerator(name = "team_id_generator", strategy = PooledSequenceGenerator.STRATEGY)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false, unique = true)
     private String name;
 
-    @OneToMany
-    private List<Member> members = new ArrayList<>();
+    /**
+     * 팀을 조회한 query 가 있으면 그 query 를 subselect 로 사용해서 조회한 모든 팀의 멤버를 한 번에 초기화하고,
+     * 없으면 초기화되지 않은 멤버 컬렉션을 MEMBERS_BATCH_SIZE 개씩 IN 조건으로 묶어서 조회한다.
+     */
+    @OneToMany(mappedBy = "team")
+    @Fetch(FetchMode.SUBSELECT)
+    @BatchSize(size = MEMBERS_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Team.MEMBERS_CACHE_REGION)
+    private Set<Member> members = Collections.newSetFromMap(new IdentityHashMap<>());
 
     @Builder
     public Team(Long id, String name) {
@@ -45,10 +86,21 @@ public class Team {
 
     public void addMember(Member member) {
         verifyThatAlreadyJoinedMember(member);
-        members.add(member);
+        member.joinTeam(this);
     }
 
     private void verifyThatAlreadyJoinedMember(Member member) {
-        if (members.contains(member)) throw new RuntimeException("이미 가입되어있는 멤버입니다.");
+        if (this.equals(member.getTeam())) throw new RuntimeException("이미 가입되어있는 멤버입니다.");
+    }
+
+    /**
+     * 조회한 팀의 members 는 Hibernate 가 HashSet 기반의 PersistentSet 으로 바꾸기 때문에 식별자로 동등성을 비교한다.
+     * 식별자가 없는 멤버를 추가하면 저장 후 hashCode 가 바뀌고 식별자가 없는 멤버끼리는 같은 원소가 되므로
+     * INSERT 된 후에 Member 의 @PostPersist 에서 다시 호출될 때 추가한다.
+     */
+    void registerMember(Member member) {
+        if (!Hibernate.isInitialized(members)) return;
+        if (member.getId() == null && members instanceof PersistentCollection) return;
+        members.add(member);
     }
 }
@@ -0,0 +1,43 @@
+package me.jpa.usageref.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+
+/**
+ * 팀별 멤버 수와 나이 합계, 최솟값, 최댓값을 미리 집계해둔 테이블.
+ * <p>
+ * 매번 member 테이블을 group by 하지 않도록 멤버의 저장, 삭제, 나이 변경, 팀 가입 시 TeamStatsEventListener 가 증분으로 갱신한다.
+ * 애플리케이션에서는 직접 수정하지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Entity
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString(exclude = "team")
+public class TeamStats {
+    @Id
+    private Long teamId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    @Column(nullable = false)
+    private long memberCount;
+
+    @Column(nullable = false)
+    private long ageSum;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+}
@@ -0,0 +1,22 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class BulkUpdateReport {
+    private String operation;
+    private int affectedRows;
+    private long elapsedMillis;
+
+    public BulkUpdateReport(String operation, int affectedRows, long elapsedMillis) {
+        this.operation = operation;
+        this.affectedRows = affectedRows;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,10 @@
+package me.jpa.usageref.dto;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public enum ExportFormat {
+    CSV,
+    JSON_LINES
+}
@@ -0,0 +1,26 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class ExportReport {
+    private long rowCount;
+    private long elapsedMillis;
+    private long peakUsedHeapBytes;
+
+    public ExportReport(long rowCount, long elapsedMillis, long peakUsedHeapBytes) {
+        this.rowCount = rowCount;
+        this.elapsedMillis = elapsedMillis;
+        this.peakUsedHeapBytes = peakUsedHeapBytes;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowCount : rowCount * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,28 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class ImportReport {
+    private long rowCount;
+    private int chunkCount;
+    private long elapsedMillis;
+    private long peakUsedHeapBytes;
+
+    public ImportReport(long rowCount, int chunkCount, long elapsedMillis, long peakUsedHeapBytes) {
+        this.rowCount = rowCount;
+        this.chunkCount = chunkCount;
+        this.elapsedMillis = elapsedMillis;
+        this.peakUsedHeapBytes = peakUsedHeapBytes;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowCount : rowCount * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,20 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class IndexRebuildReport {
+    private int indexedCount;
+    private long elapsedMillis;
+
+    public IndexRebuildReport(int indexedCount, long elapsedMillis) {
+        this.indexedCount = indexedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,52 @@
+package me.jpa.usageref.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MemberCursor {
+    private static final String DELIMITER = ":";
+    private static final int VALUE_COUNT = 3;
+
+    private final MemberSortKey sortKey;
+    private final int age;
+    private final long id;
+
+    private MemberCursor(MemberSortKey sortKey, int age, long id) {
+        Assert.notNull(sortKey, "sortKey cannot be null");
+        this.sortKey = sortKey;
+        this.age = age;
+        this.id = id;
+    }
+
+    public static MemberCursor after(MemberSortKey sortKey, int age, long id) {
+        return new MemberCursor(sortKey, age, id);
+    }
+
+    public static MemberCursor decode(String token) {
+        Assert.hasText(token, "token cannot be empty");
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(DELIMITER, -1);
+            Assert.isTrue(values.length == VALUE_COUNT, "token must have " + VALUE_COUNT + " values");
+            return new MemberCursor(MemberSortKey.valueOf(values[0]), Integer.parseInt(values[1]), Long.parseLong(values[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 continuation token 입니다. : " + token, e);
+        }
+    }
+
+    public String encode() {
+        String value = sortKey.name() + DELIMITER + age + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
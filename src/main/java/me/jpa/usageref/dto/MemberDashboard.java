@@ -0,0 +1,22 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class MemberDashboard {
+    private final MemberPage<MemberItem> memberPage;
+    private final List<TeamStatsItem> teamStats;
+
+    public MemberDashboard(MemberPage<MemberItem> memberPage, List<TeamStatsItem> teamStats) {
+        this.memberPage = memberPage;
+        this.teamStats = teamStats;
+    }
+}
@@ -0,0 +1,54 @@
+package me.jpa.usageref.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import org.springframework.util.Assert;
+
+/**
+ * 클라이언트가 알고 있는 version 의 멤버에서 변경된 값만 담는다. 값이 null 인 항목은 변경하지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class MemberPatch {
+    private Long id;
+    private Long version;
+    private String name;
+    private Integer age;
+    private Address address;
+
+    @Builder
+    public MemberPatch(Long id, Long version, String name, Integer age, Address address) {
+        Assert.notNull(id, "id cannot be null");
+        Assert.notNull(version, "version cannot be null");
+        Assert.isTrue(name != null || age != null || address != null, "patch must change at least one attribute");
+        if (age != null && age < 0) throw new IllegalArgumentException("age cannot less than zero");
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.age = age;
+        this.address = address;
+    }
+
+    public boolean isAgeChanged() {
+        return age != null;
+    }
+
+    /**
+     * @return 검색 인덱스에 저장되는 이름이나 주소를 변경하면 true
+     */
+    public boolean isSearchableChanged() {
+        return name != null || address != null;
+    }
+
+    public void applyTo(Member member) {
+        if (name != null) member.changeName(name);
+        if (age != null) member.changeAge(age);
+        if (address != null) member.changeAddress(address);
+    }
+}
@@ -0,0 +1,46 @@
+package me.jpa.usageref.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class MemberRecord {
+    private String name;
+    private int age;
+    private String city;
+    private String street;
+    private String teamName;
+
+    @Builder
+    public MemberRecord(String name, int age, String city, String street, String teamName) {
+        this.name = name;
+        this.age = age;
+        this.city = city;
+        this.street = street;
+        this.teamName = teamName;
+    }
+
+    public boolean hasTeam() {
+        return teamName != null && !teamName.isEmpty();
+    }
+
+    public Member toMember() {
+        return Member.builder()
+                .name(name)
+                .age(age)
+                .address(hasAddress() ? Address.builder().city(city).street(street).build() : null)
+                .build();
+    }
+
+    private boolean hasAddress() {
+        return city != null || street != null;
+    }
+}
@@ -0,0 +1,30 @@
+package me.jpa.usageref.dto;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public enum MemberSortKey {
+    ID("m.id > :id", "m.id"),
+    AGE_ID("m.age > :age or (m.age = :age and m.id > :id)", "m.age, m.id");
+
+    private final String seekPredicate;
+    private final String orderBy;
+
+    MemberSortKey(String seekPredicate, String orderBy) {
+        this.seekPredicate = seekPredicate;
+        this.orderBy = orderBy;
+    }
+
+    public String getSeekPredicate() {
+        return seekPredicate;
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public boolean usesAge() {
+        return this == AGE_ID;
+    }
+}
@@ -0,0 +1,22 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class MemberUpdateResult {
+    private final Long id;
+    private final Long version;
+    private final boolean merged;
+
+    public MemberUpdateResult(Long id, Long version, boolean merged) {
+        this.id = id;
+        this.version = version;
+        this.merged = merged;
+    }
+}
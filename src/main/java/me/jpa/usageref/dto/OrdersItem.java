@@ -0,0 +1,22 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class OrdersItem {
+    private Long id;
+    private String memberName;
+    private String productName;
+
+    public OrdersItem(Long id, String memberName, String productName) {
+        this.id = id;
+        this.memberName = memberName;
+        this.productName = productName;
+    }
+}
@@ -0,0 +1,30 @@
+package me.jpa.usageref.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 값이 null 인 조건은 사용하지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class OrdersReportFilter {
+    private Long memberId;
+    private Long teamId;
+    private Long productId;
+
+    @Builder
+    public OrdersReportFilter(Long memberId, Long teamId, Long productId) {
+        this.memberId = memberId;
+        this.teamId = teamId;
+        this.productId = productId;
+    }
+
+    public static OrdersReportFilter none() {
+        return new OrdersReportFilter(null, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package me.jpa.usageref.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class OrdersReportItem {
+    private Long orderId;
+    private String memberName;
+    private String teamName;
+    private String productName;
+
+    public OrdersReportItem(Long orderId, String memberName, String teamName, String productName) {
+        this.orderId = orderId;
+        this.memberName = memberName;
+        this.teamName = teamName;
+        this.productName = productName;
+    }
+}
@@ -0,0 +1,26 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class OrdersReportPage {
+    private final List<OrdersReportItem> content;
+    private final Long nextAfterOrderId;
+
+    public OrdersReportPage(List<OrdersReportItem> content, Long nextAfterOrderId) {
+        this.content = content;
+        this.nextAfterOrderId = nextAfterOrderId;
+    }
+
+    public boolean hasNext() {
+        return nextAfterOrderId != null;
+    }
+}
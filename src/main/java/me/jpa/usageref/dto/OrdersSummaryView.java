@@ -0,0 +1,13 @@
+package me.jpa.usageref.dto;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public interface OrdersSummaryView {
+    Long getId();
+
+    String getMemberName();
+
+    String getProductName();
+}
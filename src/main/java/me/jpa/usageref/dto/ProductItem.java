@@ -0,0 +1,20 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class ProductItem {
+    private Long id;
+    private String name;
+
+    public ProductItem(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
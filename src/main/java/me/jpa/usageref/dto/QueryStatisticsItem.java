@@ -0,0 +1,21 @@
+package me.jpa.usageref.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@Builder
+@ToString
+public class QueryStatisticsItem {
+    private String query;
+    private long executionCount;
+    private long rowCount;
+    private double meanMillis;
+    private double p99Millis;
+    private long maxMillis;
+}
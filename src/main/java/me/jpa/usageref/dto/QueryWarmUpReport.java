@@ -0,0 +1,24 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class QueryWarmUpReport {
+    private List<String> queryNames;
+    private int executedCount;
+    private long elapsedMillis;
+
+    public QueryWarmUpReport(List<String> queryNames, int executedCount, long elapsedMillis) {
+        this.queryNames = queryNames;
+        this.executedCount = executedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
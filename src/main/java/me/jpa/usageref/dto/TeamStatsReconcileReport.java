@@ -0,0 +1,26 @@
+package me.jpa.usageref.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+public class TeamStatsReconcileReport {
+    private int checkedTeamCount;
+    private List<String> mismatchedTeamNames;
+    private boolean rebuilt;
+    private long elapsedMillis;
+
+    public TeamStatsReconcileReport(int checkedTeamCount, List<String> mismatchedTeamNames, boolean rebuilt, long elapsedMillis) {
+        this.checkedTeamCount = checkedTeamCount;
+        this.mismatchedTeamNames = mismatchedTeamNames;
+        this.rebuilt = rebuilt;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
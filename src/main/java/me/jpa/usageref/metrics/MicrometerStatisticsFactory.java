@@ -0,0 +1,60 @@
+package me.jpa.usageref.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class MicrometerStatisticsFactory implements StatisticsFactory {
+    public static final String QUERY_EXECUTION_METRIC = "jpa.query.execution";
+    public static final String QUERY_ROWS_METRIC = "jpa.query.rows";
+    public static final String QUERY_TAG = "query";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerStatisticsFactory(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new QueryTimingStatistics(sessionFactory);
+    }
+
+    public Timer queryTimer(String query) {
+        return Timer.builder(QUERY_EXECUTION_METRIC)
+                .tag(QUERY_TAG, query)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public DistributionSummary queryRows(String query) {
+        return DistributionSummary.builder(QUERY_ROWS_METRIC)
+                .tag(QUERY_TAG, query)
+                .register(meterRegistry);
+    }
+
+    private class QueryTimingStatistics extends StatisticsImpl {
+        private static final long serialVersionUID = 1L;
+
+        QueryTimingStatistics(SessionFactoryImplementor sessionFactory) {
+            super(sessionFactory);
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            queryTimer(hql).record(time, TimeUnit.MILLISECONDS);
+            queryRows(hql).record(rows);
+        }
+    }
+}
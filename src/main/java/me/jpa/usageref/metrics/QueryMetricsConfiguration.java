@@ -0,0 +1,38 @@
+package me.jpa.usageref.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+public class QueryMetricsConfiguration {
+    private static final String STATISTICS_FACTORY = "hibernate.stats.factory";
+
+    @Bean
+    public MicrometerStatisticsFactory micrometerStatisticsFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MicrometerStatisticsFactory(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernatePropertiesCustomizer(MicrometerStatisticsFactory statisticsFactory) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(STATISTICS_FACTORY, statisticsFactory);
+        };
+    }
+
+    @Bean
+    public QueryStatisticsEndpoint queryStatisticsEndpoint(EntityManagerFactory entityManagerFactory, MicrometerStatisticsFactory statisticsFactory) {
+        return new QueryStatisticsEndpoint(entityManagerFactory, statisticsFactory);
+    }
+}
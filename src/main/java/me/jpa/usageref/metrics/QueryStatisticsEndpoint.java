@@ -0,0 +1,88 @@
+package me.jpa.usageref.metrics;
+
+import me.jpa.usageref.dto.CacheRegionStatisticsItem;
+import me.jpa.usageref.dto.QueryStatisticsItem;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+    private final EntityManagerFactory entityManagerFactory;
+    private final MicrometerStatisticsFactory statisticsFactory;
+
+    public QueryStatisticsEndpoint(EntityManagerFactory entityManagerFactory, MicrometerStatisticsFactory statisticsFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.statisticsFactory = statisticsFactory;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        result.put("entityFetchCount", statistics.getEntityFetchCount());
+        result.put("collectionLoadCount", statistics.getCollectionLoadCount());
+        result.put("collectionFetchCount", statistics.getCollectionFetchCount());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        result.put("queries", Arrays.stream(statistics.getQueries())
+                .map(query -> toItem(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryStatisticsItem::getExecutionCount).reversed())
+                .collect(toList()));
+        result.put("secondLevelCacheHitCount", statistics.getSecondLevelCacheHitCount());
+        result.put("secondLevelCacheMissCount", statistics.getSecondLevelCacheMissCount());
+        result.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        result.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        result.put("cacheRegions", Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toItem(region, statistics.getCacheRegionStatistics(region)))
+                .collect(toList()));
+        return result;
+    }
+
+    private QueryStatisticsItem toItem(String query, QueryStatistics queryStatistics) {
+        return QueryStatisticsItem.builder()
+                .query(query)
+                .executionCount(queryStatistics.getExecutionCount())
+                .rowCount(queryStatistics.getExecutionRowCount())
+                .meanMillis(queryStatistics.getExecutionAvgTimeAsDouble())
+                .p99Millis(p99Millis(query))
+                .maxMillis(queryStatistics.getExecutionMaxTime())
+                .build();
+    }
+
+    private CacheRegionStatisticsItem toItem(String region, CacheRegionStatistics regionStatistics) {
+        return CacheRegionStatisticsItem.builder()
+                .region(region)
+                .hitCount(regionStatistics.getHitCount())
+                .missCount(regionStatistics.getMissCount())
+                .putCount(regionStatistics.getPutCount())
+                .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                .build();
+    }
+
+    private double p99Millis(String query) {
+        return Arrays.stream(statisticsFactory.queryTimer(query).takeSnapshot().percentileValues())
+                .filter(percentile -> percentile.percentile() == 0.99)
+                .mapToDouble(percentile -> percentile.value(TimeUnit.MILLISECONDS))
+                .findFirst()
+                .orElse(0);
+    }
+}
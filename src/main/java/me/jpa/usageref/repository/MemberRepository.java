@@ -0,0 +1,24 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberNameView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public interface MemberRepository extends JpaRepository<Member, Long> {
+    @Query("select new me.jpa.usageref.dto.MemberItem(m.id, m.name) from Member m where m.age >= :age order by m.id")
+    List<MemberItem> findItemsByAgeGreaterThanEqual(@Param("age") int age);
+
+    List<MemberNameView> findByTeamNameOrderByIdAsc(String teamName);
+
+    Optional<MemberNameView> findViewById(Long id);
+}
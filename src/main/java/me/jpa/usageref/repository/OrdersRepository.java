@@ -0,0 +1,20 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.dto.OrdersSummaryView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public interface OrdersRepository extends JpaRepository<Orders, Long> {
+    @Query("select o.id as id, m.name as memberName, p.name as productName " +
+            "from Orders o join o.member m join o.product p " +
+            "where m.id = :memberId order by o.id")
+    List<OrdersSummaryView> findSummariesByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,18 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.dto.ProductItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public interface ProductRepository extends JpaRepository<Product, Long> {
+    @Query("select new me.jpa.usageref.dto.ProductItem(p.id, p.name) from Product p where p.name like concat(:prefix, '%') order by p.name")
+    List<ProductItem> findItemsByNameStartingWith(@Param("prefix") String prefix);
+}
@@ -0,0 +1,17 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.TeamMemberCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public interface TeamRepository extends JpaRepository<Team, Long> {
+    @Query("select t.name as name, count(m) as memberCount from Team t left join t.members m group by t.name order by t.name")
+    List<TeamMemberCountView> findMemberCounts();
+}
@@ -0,0 +1,67 @@
+package me.jpa.usageref.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * spring.datasource 를 primary 로 사용하고 usageref.routing.replica-urls 의 replica 마다 커넥션 풀을 만든다.
+ * replica 의 커넥션 풀은 primary 와 같은 spring.datasource.hikari 설정, 계정을 사용한다.
+ * <p>
+ * primary, replica 를 각각 DataSource bean 으로 등록하면 DataSourceInitializer 가 초기화 중인 주 DataSource 를 찾으면서 순환 참조가 생기기 때문에
+ * 커넥션 풀은 bean 으로 등록하지 않고 ReplicaRoutingDataSource 하나만 DataSource 로 등록한다.
+ * 같은 이유로 Spring Boot 가 커넥션 풀의 metric 을 등록하지 못하므로 커넥션 풀을 시작하기 전에 직접 등록한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "usageref.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+    private static final String DEFAULT_POOL_NAME = "usageref";
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${usageref.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${usageref.routing.selection:ROUND_ROBIN}") ReplicaSelection selection,
+            @Value("${usageref.routing.read-your-writes-window-millis:1000}") long readYourWritesWindowMillis) {
+        Assert.notEmpty(replicaUrls, "usageref.routing.replica-urls cannot be empty");
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        meterRegistry.ifAvailable(registry -> primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(replicaDataSource(primary, replicaUrls.get(i), i));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, selection, readYourWritesWindowMillis);
+    }
+
+    private HikariDataSource replicaDataSource(HikariDataSource primary, String jdbcUrl, int index) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        String poolName = primary.getPoolName() == null ? DEFAULT_POOL_NAME : primary.getPoolName();
+        config.setPoolName(poolName + "-replica-" + index);
+        config.setJdbcUrl(jdbcUrl.trim());
+        return new HikariDataSource(config);
+    }
+}
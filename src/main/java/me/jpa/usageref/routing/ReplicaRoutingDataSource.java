@@ -0,0 +1,175 @@
+package me.jpa.usageref.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 커넥션을 보낸다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 트랜잭션을 시작하면서 커넥션을 얻은 뒤에 설정되기 때문에
+ * LazyConnectionDataSourceProxy 로 첫 SQL 을 실행할 때까지 실제 커넥션을 얻는 것을 미룬다.
+ * <p>
+ * replica 는 primary 의 변경을 늦게 반영하므로 쓰기 트랜잭션을 커밋한 스레드는 readYourWritesWindowMillis 동안
+ * 읽기 전용 트랜잭션도 primary 에서 실행해서 방금 쓴 데이터를 읽는다. 허용할 복제 지연보다 길게 설정한다.
+ * 고정은 커밋한 스레드에만 적용되기 때문에 다른 스레드에서 실행하는 읽기는 replica 에서 방금 쓴 데이터를 읽지 못할 수 있다.
+ * 읽기를 다른 스레드의 executor 로 넘길 때는 작업을 propagatePin(..) 으로 감싸서 고정을 함께 넘긴다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    private static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final long readYourWritesWindowNanos;
+    private final Router router = new Router();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ThreadLocal<Long> pinnedUntil = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, ReplicaSelection selection,
+                                    long readYourWritesWindowMillis) {
+        Assert.notNull(primary, "primary cannot be null");
+        Assert.notEmpty(replicas, "replicas cannot be empty");
+        Assert.notNull(selection, "selection cannot be null");
+        Assert.isTrue(readYourWritesWindowMillis >= 0, "readYourWritesWindowMillis cannot less than zero");
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas);
+        this.selection = selection;
+        this.readYourWritesWindowNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesWindowMillis);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targetDataSources.put(i, this.replicas.get(i));
+        }
+        router.setTargetDataSources(targetDataSources);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+    }
+
+    private Object determineLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return isPinned() ? PRIMARY : selectReplica();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) pinAfterCommit();
+        return PRIMARY;
+    }
+
+    private boolean isPinned() {
+        Long until = pinnedUntil.get();
+        if (until == null) return false;
+        if (until - System.nanoTime() > 0) return true;
+
+        pinnedUntil.remove();
+        return false;
+    }
+
+    private int selectReplica() {
+        int first = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        if (selection == ReplicaSelection.ROUND_ROBIN) return first;
+
+        int selected = first;
+        int minActiveConnections = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (first + i) % replicas.size();
+            int activeConnections = activeConnections(replicas.get(candidate));
+            if (activeConnections < minActiveConnections) {
+                selected = candidate;
+                minActiveConnections = activeConnections;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 커넥션 풀은 처음 커넥션을 요청할 때 만들어지므로 아직 없으면 사용 중인 커넥션이 없는 것으로 본다.
+     */
+    private int activeConnections(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 시점부터 현재 스레드의 읽기를 primary 에 고정한다.
+     */
+    private void pinAfterCommit() {
+        if (readYourWritesWindowNanos == 0 || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                pinnedUntil.set(System.nanoTime() + readYourWritesWindowNanos);
+            }
+        });
+    }
+
+    /**
+     * 현재 스레드의 고정 상태를 작업을 실행하는 스레드로 넘긴다.
+     * 작업이 끝나면 실행한 스레드의 원래 고정 상태로 되돌리기 때문에 executor 의 스레드에 고정이 남지 않는다.
+     * ThreadPoolTaskExecutor 의 TaskDecorator 로 사용한다.
+     */
+    public Runnable propagatePin(Runnable task) {
+        Long until = pinnedUntil.get();
+        return () -> {
+            Long previous = pinnedUntil.get();
+            setPinnedUntil(until);
+            try {
+                task.run();
+            } finally {
+                setPinnedUntil(previous);
+            }
+        };
+    }
+
+    private void setPinnedUntil(Long until) {
+        if (until == null) {
+            pinnedUntil.remove();
+        } else {
+            pinnedUntil.set(until);
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이 동시에 사용할 수 있는 커넥션 수
+     */
+    public int getReplicaMaximumPoolSize() {
+        return replicas.stream()
+                .mapToInt(HikariDataSource::getMaximumPoolSize)
+                .sum();
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary 에 고정한 것을 해제한다.
+     */
+    public void unpin() {
+        pinnedUntil.remove();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private class Router extends AbstractRoutingDataSource {
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return determineLookupKey();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package me.jpa.usageref.routing;
+
+/**
+ * 읽기 전용 트랜잭션이 사용할 replica 를 고르는 방법
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public enum ReplicaSelection {
+    /**
+     * replica 를 순서대로 돌아가며 사용한다.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 replica 를 사용한다. 같으면 ROUND_ROBIN 순서로 고른다.
+     */
+    LEAST_BUSY
+}
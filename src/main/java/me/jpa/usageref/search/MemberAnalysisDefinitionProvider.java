@@ -0,0 +1,25 @@
+package me.jpa.usageref.search;
+
+import me.jpa.usageref.domain.Member;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.analyzer.definition.LuceneAnalysisDefinitionProvider;
+import org.hibernate.search.analyzer.definition.LuceneAnalysisDefinitionRegistryBuilder;
+
+/**
+ * Member 검색 필드의 analyzer 를 정의한다. 단어로 나눈 뒤 소문자로 바꾸고 악센트를 제거한다.
+ * hibernate.search.lucene.analysis_definition_provider 로 등록한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class MemberAnalysisDefinitionProvider implements LuceneAnalysisDefinitionProvider {
+    @Override
+    public void register(LuceneAnalysisDefinitionRegistryBuilder builder) {
+        builder.analyzer(Member.SEARCH_ANALYZER)
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+    }
+}
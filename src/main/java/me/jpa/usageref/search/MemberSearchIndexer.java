@@ -0,0 +1,175 @@
+package me.jpa.usageref.search;
+
+import lombok.extern.slf4j.Slf4j;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.IndexRebuildReport;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.search.jpa.FullTextEntityManager;
+import org.hibernate.search.jpa.Search;
+import org.hibernate.search.spi.SearchIntegrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Member 검색 인덱스를 다시 만든다.
+ * <p>
+ * 엔티티의 저장, 수정, 삭제는 Hibernate Search 가 커밋 시점에 인덱스에 반영하지만 JPQL 벌크 연산과 native UPDATE 는 event 를 거치지 않는다.
+ * 변경된 멤버의 식별자를 트랜잭션 동안 모아서 커밋 후에 해당 멤버만 batchSizeToLoadObjects 개씩 조회해서 다시 인덱싱하거나 인덱스에서 제거하고,
+ * 인덱스가 DB 와 얼마나 달라졌는지 알 수 없을 때만 MassIndexer 로 인덱스 전체를 다시 만든다.
+ * MassIndexer 는 식별자를 읽는 thread 와 엔티티를 읽어서 document 를 만드는 여러 thread 로 나누어 병렬로 인덱싱한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class MemberSearchIndexer {
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    private final int threadsToLoadObjects;
+    private final int batchSizeToLoadObjects;
+
+    public MemberSearchIndexer(@Value("${usageref.search.mass-indexer.threads-to-load-objects:4}") int threadsToLoadObjects,
+                               @Value("${usageref.search.mass-indexer.batch-size-to-load-objects:100}") int batchSizeToLoadObjects) {
+        Assert.isTrue(threadsToLoadObjects > 0, "threadsToLoadObjects must be greater than zero");
+        Assert.isTrue(batchSizeToLoadObjects > 0, "batchSizeToLoadObjects must be greater than zero");
+        this.threadsToLoadObjects = threadsToLoadObjects;
+        this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+    }
+
+    /**
+     * 인덱스를 비우고 커밋된 모든 멤버를 다시 인덱싱한다. MassIndexer 는 별도의 Session 으로 읽기 때문에 트랜잭션 안에서는 호출할 수 없다.
+     */
+    public IndexRebuildReport rebuild() {
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(), "트랜잭션 안에서는 인덱스를 다시 만들 수 없습니다.");
+        return massIndex();
+    }
+
+    /**
+     * 트랜잭션이 없으면 공유 EntityManager 를 사용할 수 없으므로 EntityManagerFactory 에서 직접 만든다.
+     */
+    private IndexRebuildReport massIndex() {
+        long startedAt = System.nanoTime();
+        FullTextEntityManager fullTextEntityManager = Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
+        try {
+            fullTextEntityManager.createIndexer(Member.class)
+                    .threadsToLoadObjects(threadsToLoadObjects)
+                    .batchSizeToLoadObjects(batchSizeToLoadObjects)
+                    .startAndWait();
+            int indexedCount = fullTextEntityManager.getSearchFactory()
+                    .unwrap(SearchIntegrator.class)
+                    .getStatistics()
+                    .getNumberOfIndexedEntities(Member.class.getName());
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            return new IndexRebuildReport(indexedCount, elapsedMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("인덱스를 다시 만드는 중 interrupt 되었습니다.", e);
+        } finally {
+            fullTextEntityManager.close();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 멤버들을 다시 인덱싱한다. 조회되지 않는 멤버는 인덱스에서 제거한다.
+     * 트랜잭션이 없으면 바로 인덱싱한다.
+     */
+    public void reindexAfterCommit(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return;
+
+        IndexWork work = currentIndexWork();
+        work.reindexIds.addAll(memberIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) work.apply();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 삭제된 멤버들을 인덱스에서 제거한다. 트랜잭션이 없으면 바로 제거한다.
+     */
+    public void purgeAfterCommit(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return;
+
+        IndexWork work = currentIndexWork();
+        work.purgeIds.addAll(memberIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) work.apply();
+    }
+
+    /**
+     * 한 트랜잭션에서 여러 번 호출해도 커밋 후에 한 번에 인덱싱하도록 트랜잭션마다 하나의 IndexWork 를 등록한다.
+     */
+    private IndexWork currentIndexWork() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return new IndexWork();
+
+        IndexWork work = (IndexWork) TransactionSynchronizationManager.getResource(this);
+        if (work == null) {
+            work = new IndexWork();
+            TransactionSynchronizationManager.bindResource(this, work);
+            TransactionSynchronizationManager.registerSynchronization(work);
+        }
+        return work;
+    }
+
+    /**
+     * afterCommit 시점에는 커밋한 트랜잭션의 EntityManager 가 아직 thread 에 남아있으므로 EntityManagerFactory 에서 직접 만든다.
+     * 커밋 전에 다른 트랜잭션이 캐시한 이전 값으로 인덱싱하지 않도록 2차 캐시를 사용하지 않는다.
+     */
+    private void index(Set<Long> reindexIds, Set<Long> purgeIds) {
+        FullTextEntityManager fullTextEntityManager = Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
+        try {
+            Session session = fullTextEntityManager.unwrap(Session.class);
+            session.setCacheMode(CacheMode.IGNORE);
+            fullTextEntityManager.getTransaction().begin();
+            purgeIds.forEach(id -> fullTextEntityManager.purge(Member.class, id));
+
+            List<Long> ids = new ArrayList<>(reindexIds);
+            for (int from = 0; from < ids.size(); from += batchSizeToLoadObjects) {
+                List<Long> batch = ids.subList(from, Math.min(from + batchSizeToLoadObjects, ids.size()));
+                List<Member> members = session.byMultipleIds(Member.class)
+                        .with(CacheMode.IGNORE)
+                        .multiLoad(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (members.get(i) == null) fullTextEntityManager.purge(Member.class, batch.get(i));
+                    else fullTextEntityManager.index(members.get(i));
+                }
+                fullTextEntityManager.flushToIndexes();
+                fullTextEntityManager.clear();
+            }
+            fullTextEntityManager.getTransaction().commit();
+        } finally {
+            if (fullTextEntityManager.getTransaction().isActive()) fullTextEntityManager.getTransaction().rollback();
+            fullTextEntityManager.close();
+        }
+    }
+
+    private class IndexWork extends TransactionSynchronizationAdapter {
+        private final Set<Long> reindexIds = new LinkedHashSet<>();
+        private final Set<Long> purgeIds = new LinkedHashSet<>();
+
+        private void apply() {
+            index(reindexIds, purgeIds);
+            log.debug("Member 검색 인덱스에 반영했습니다. : reindex {}, purge {}", reindexIds.size(), purgeIds.size());
+        }
+
+        @Override
+        public void afterCommit() {
+            apply();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MemberSearchIndexer.this);
+        }
+    }
+}
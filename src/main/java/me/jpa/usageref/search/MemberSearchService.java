@@ -0,0 +1,113 @@
+package me.jpa.usageref.search;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.engine.ProjectionConstants;
+import org.hibernate.search.jpa.FullTextEntityManager;
+import org.hibernate.search.jpa.Search;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 멤버의 이름과 주소(city, street) 를 Lucene 인덱스에서 검색한다.
+ * <p>
+ * like '%x%' 조건은 인덱스를 사용할 수 없어서 member 테이블 전체를 읽기 때문에 검색은 Hibernate Search 인덱스로 처리한다.
+ * 결과는 인덱스에 저장된 식별자와 이름을 projection 으로 읽어서 member 테이블을 조회하지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberSearchService {
+    static final String NAME = "name";
+    static final String CITY = "address.city";
+    static final String STREET = "address.street";
+
+    private static final int MAX_EDIT_DISTANCE = 2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 입력한 단어들로 시작하는 단어를 모두 포함한 이름을 찾는다. (ex. "hong gil" 은 "Hong Gildong" 과 일치)
+     */
+    public List<MemberItem> searchByNamePrefix(String prefix, int maxResults) {
+        Assert.hasText(prefix, "prefix cannot be empty");
+        FullTextEntityManager fullTextEntityManager = Search.getFullTextEntityManager(entityManager);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        analyze(fullTextEntityManager, prefix)
+                .forEach(token -> query.add(new PrefixQuery(new Term(NAME, token)), BooleanClause.Occur.MUST));
+        return search(fullTextEntityManager, query.build(), maxResults);
+    }
+
+    /**
+     * prefix 검색은 query 를 분석하지 않기 때문에 인덱싱할 때와 같은 analyzer 로 소문자 변환, 토큰 분리를 직접 한다.
+     */
+    private List<String> analyze(FullTextEntityManager fullTextEntityManager, String text) {
+        Analyzer analyzer = fullTextEntityManager.getSearchFactory().getAnalyzer(Member.SEARCH_ANALYZER);
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    /**
+     * 이름, 도시, 거리 중 하나라도 입력한 단어와 편집 거리 2 이내인 멤버를 관련도 순으로 찾는다.
+     */
+    public List<MemberItem> searchFuzzy(String text, int maxResults) {
+        Assert.hasText(text, "text cannot be empty");
+        FullTextEntityManager fullTextEntityManager = Search.getFullTextEntityManager(entityManager);
+
+        Query query = fullTextEntityManager.getSearchFactory()
+                .buildQueryBuilder()
+                .forEntity(Member.class)
+                .get()
+                .keyword()
+                .fuzzy()
+                .withEditDistanceUpTo(MAX_EDIT_DISTANCE)
+                .onFields(NAME, CITY, STREET)
+                .matching(text)
+                .createQuery();
+        return search(fullTextEntityManager, query, maxResults);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MemberItem> search(FullTextEntityManager fullTextEntityManager, Query query, int maxResults) {
+        Assert.isTrue(maxResults > 0, "maxResults must be greater than zero");
+        List<Object[]> rows = fullTextEntityManager.createFullTextQuery(query, Member.class)
+                .setProjection(ProjectionConstants.ID, NAME)
+                .setMaxResults(maxResults)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new MemberItem((Long) row[0], (String) row[1]))
+                .collect(toList());
+    }
+}
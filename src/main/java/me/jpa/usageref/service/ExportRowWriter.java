@@ -0,0 +1,83 @@
+package me.jpa.usageref.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import me.jpa.usageref.dto.ExportFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 row 씩 CSV 또는 JSON Lines 로 기록한다.
+ * 호출한 쪽의 OutputStream 은 닫지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+class ExportRowWriter implements Flushable {
+    private static final String CSV_DELIMITER = ",";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final ExportFormat format;
+    private final String[] columns;
+    private final Writer writer;
+    private final JsonGenerator jsonGenerator;
+
+    ExportRowWriter(ExportFormat format, OutputStream outputStream, String... columns) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.jsonGenerator = format == ExportFormat.JSON_LINES ? createJsonGenerator(writer) : null;
+        if (format == ExportFormat.CSV) writeCsvLine(columns);
+    }
+
+    private static JsonGenerator createJsonGenerator(Writer writer) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    void writeRow(Object... values) throws IOException {
+        if (values.length != columns.length) throw new IllegalArgumentException("컬럼 수와 값의 수가 다릅니다.");
+
+        if (format == ExportFormat.CSV) writeCsvLine(values);
+        else writeJsonLine(values);
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(CSV_DELIMITER);
+            if (values[i] != null) writer.write(escapeCsv(values[i].toString()));
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        boolean needsQuote = value.contains(CSV_DELIMITER) || value.contains("\"") || value.contains("\n") || value.contains("\r");
+        return needsQuote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private void writeJsonLine(Object[] values) throws IOException {
+        jsonGenerator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            jsonGenerator.writeFieldName(columns[i]);
+            writeJsonValue(values[i]);
+        }
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeRaw('\n');
+    }
+
+    private void writeJsonValue(Object value) throws IOException {
+        if (value == null) jsonGenerator.writeNull();
+        else if (value instanceof Long) jsonGenerator.writeNumber((Long) value);
+        else if (value instanceof Integer) jsonGenerator.writeNumber((Integer) value);
+        else jsonGenerator.writeString(value.toString());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (jsonGenerator != null) jsonGenerator.flush();
+        writer.flush();
+    }
+}
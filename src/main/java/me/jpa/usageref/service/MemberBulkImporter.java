@@ -0,0 +1,146 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.ImportReport;
+import me.jpa.usageref.dto.MemberRecord;
+import org.hibernate.search.jpa.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Member 는 검색 인덱스 대상이기 때문에 Hibernate Search 가 저장한 멤버의 인덱싱 작업을 커밋할 때까지 쌓아둔다.
+ * chunk 를 flush 할 때 인덱싱 작업도 인덱스에 반영하고 clear() 해서 가져오는 row 수와 관계없이 chunk 크기만큼의 메모리만 사용한다.
+ * 가져오기가 롤백되면 이미 반영한 chunk 는 인덱스에 남기 때문에 MemberSearchIndexer.rebuild() 로 다시 만든다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+public class MemberBulkImporter {
+    private static final String CSV_DELIMITER = ",";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int chunkSize;
+
+    public MemberBulkImporter(@Value("${usageref.import.chunk-size:500}") int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be greater than zero");
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public ImportReport importCsv(Reader reader) {
+        Iterator<String> lines = new BufferedReader(reader).lines().iterator();
+        if (lines.hasNext()) lines.next();
+
+        return importRecords(new Iterator<MemberRecord>() {
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public MemberRecord next() {
+                return parseCsvLine(lines.next());
+            }
+        });
+    }
+
+    private MemberRecord parseCsvLine(String line) {
+        String[] columns = line.split(CSV_DELIMITER, -1);
+        if (columns.length != 5) throw new IllegalArgumentException("CSV 형식이 올바르지 않습니다. : " + line);
+
+        return MemberRecord.builder()
+                .name(columns[0].trim())
+                .age(Integer.parseInt(columns[1].trim()))
+                .city(emptyToNull(columns[2]))
+                .street(emptyToNull(columns[3]))
+                .teamName(emptyToNull(columns[4]))
+                .build();
+    }
+
+    private String emptyToNull(String column) {
+        String trimmed = column.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    @Transactional
+    public ImportReport importRecords(Iterator<MemberRecord> records) {
+        long startedAt = System.nanoTime();
+        long rowCount = 0;
+        int chunkCount = 0;
+        long peakUsedHeap = usedHeap();
+
+        List<MemberRecord> chunk = new ArrayList<>(chunkSize);
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == chunkSize || !records.hasNext()) {
+                persistChunk(chunk);
+                rowCount += chunk.size();
+                chunkCount++;
+                peakUsedHeap = Math.max(peakUsedHeap, usedHeap());
+                chunk.clear();
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new ImportReport(rowCount, chunkCount, elapsedMillis, peakUsedHeap);
+    }
+
+    private void persistChunk(List<MemberRecord> chunk) {
+        Map<String, Team> teamsByName = resolveTeams(chunk);
+
+        for (MemberRecord record : chunk) {
+            Member member = record.toMember();
+            if (record.hasTeam()) {
+                member.joinTeam(teamsByName.get(record.getTeamName()));
+            }
+            entityManager.persist(member);
+        }
+
+        entityManager.flush();
+        Search.getFullTextEntityManager(entityManager).flushToIndexes();
+        entityManager.clear();
+    }
+
+    private Map<String, Team> resolveTeams(List<MemberRecord> chunk) {
+        Set<String> teamNames = chunk.stream()
+                .filter(MemberRecord::hasTeam)
+                .map(MemberRecord::getTeamName)
+                .collect(toSet());
+        if (teamNames.isEmpty()) return Collections.emptyMap();
+
+        Map<String, Team> teamsByName = entityManager.createNamedQuery(Team.BY_NAMES, Team.class)
+                .setParameter("names", teamNames)
+                .getResultStream()
+                .collect(toMap(Team::getName, Function.identity()));
+
+        teamNames.stream()
+                .filter(teamName -> !teamsByName.containsKey(teamName))
+                .forEach(teamName -> {
+                    Team team = Team.builder().name(teamName).build();
+                    entityManager.persist(team);
+                    teamsByName.put(teamName, team);
+                });
+        return teamsByName;
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,146 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.BulkUpdateReport;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.NoResultException;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * 여러 멤버를 한 번의 UPDATE/DELETE 문으로 변경한다.
+ * <p>
+ * 벌크 연산은 Persistence Context 를 거치지 않고 DB 에 바로 실행되기 때문에 실행 전에 flush 하고,
+ * 실행 후에는 이미 조회되어 있던 Member, Team(members 컬렉션) 을 detach 해서 다음 조회 시 DB 에서 다시 읽도록 한다.
+ * 2차 캐시의 Member region 과 Team.members region 은 Hibernate 가 벌크 연산 후 제거한다.
+ * UPDATE 는 versioned 로 실행해서 version 을 함께 증가시키기 때문에 벌크 연산 전에 멤버를 조회한 다른 트랜잭션은 커밋 시 충돌이 발생한다.
+ * 벌크 연산은 Hibernate event listener 를 거치지 않기 때문에 멤버 수나 나이가 바뀌는 연산은 대상 멤버가 속한 팀을 먼저 조회해서
+ * 실행 후에 해당 팀의 team_stats 만 다시 계산하고, 전체를 다시 만드는 것은 TeamStatsReconciler 에 맡긴다.
+ * 이름이 바뀌거나 멤버가 삭제되는 연산은 같은 조건으로 대상 멤버의 식별자를 먼저 조회해서 커밋 후에 해당 멤버만 다시 인덱싱하거나 인덱스에서 제거한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional
+public class MemberBulkUpdater {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TeamStatsService teamStatsService;
+    private final MemberSearchIndexer memberSearchIndexer;
+
+    public MemberBulkUpdater(TeamStatsService teamStatsService, MemberSearchIndexer memberSearchIndexer) {
+        this.teamStatsService = teamStatsService;
+        this.memberSearchIndexer = memberSearchIndexer;
+    }
+
+    public BulkUpdateReport increaseAge(int minAge, int years) {
+        Assert.isTrue(years > 0, "years must be greater than zero");
+        entityManager.flush();
+        List<Long> teamIds = entityManager.createQuery("select distinct m.team.id from Member m where m.age >= :minAge and m.team is not null", Long.class)
+                .setParameter("minAge", minAge)
+                .getResultList();
+        Query query = entityManager.createQuery("update versioned Member m set m.age = m.age + :years where m.age >= :minAge")
+                .setParameter("years", years)
+                .setParameter("minAge", minAge);
+        return executeAndRecountTeams("increaseAge", query, teamIds);
+    }
+
+    public BulkUpdateReport moveTeam(String fromTeamName, String toTeamName) {
+        Team from = findTeam(fromTeamName);
+        Team to = findTeam(toTeamName);
+        Query query = entityManager.createQuery("update versioned Member m set m.team = :to where m.team = :from")
+                .setParameter("to", to)
+                .setParameter("from", from);
+        return executeAndRecountTeams("moveTeam", query, Arrays.asList(from.getId(), to.getId()));
+    }
+
+    private Team findTeam(String name) {
+        try {
+            return entityManager.createNamedQuery(Team.BY_NAME, Team.class)
+                    .setParameter("name", name)
+                    .getSingleResult();
+        } catch (NoResultException e) {
+            throw new IllegalArgumentException("존재하지 않는 팀입니다. : " + name, e);
+        }
+    }
+
+    /**
+     * @param namePattern JPQL like 패턴 (ex. member%)
+     * @param prefix      이름 앞에 붙일 문자열
+     */
+    public BulkUpdateReport renameByPattern(String namePattern, String prefix) {
+        Assert.hasText(namePattern, "namePattern cannot be empty");
+        Assert.hasText(prefix, "prefix cannot be empty");
+        entityManager.flush();
+        List<Long> memberIds = entityManager.createQuery("select m.id from Member m where m.name like :namePattern", Long.class)
+                .setParameter("namePattern", namePattern)
+                .getResultList();
+        Query query = entityManager.createQuery("update versioned Member m set m.name = concat(:prefix, m.name) where m.name like :namePattern")
+                .setParameter("prefix", prefix)
+                .setParameter("namePattern", namePattern);
+        BulkUpdateReport report = execute("renameByPattern", query);
+        if (report.getAffectedRows() > 0) memberSearchIndexer.reindexAfterCommit(memberIds);
+        return report;
+    }
+
+    /**
+     * 주문 내역이 있는 멤버는 외래 키 때문에 삭제할 수 없으므로 제외한다.
+     */
+    public BulkUpdateReport deleteYoungerThanWithoutOrders(int age) {
+        entityManager.flush();
+        List<Object[]> targets = entityManager.createQuery("select m.id, t.id from Member m left join m.team t where m.age < :age " +
+                "and m.id not in (select o.member.id from Orders o where o.member is not null)", Object[].class)
+                .setParameter("age", age)
+                .getResultList();
+        List<Long> memberIds = targets.stream().map(target -> (Long) target[0]).collect(toList());
+        Set<Long> teamIds = targets.stream().map(target -> (Long) target[1]).filter(Objects::nonNull).collect(toSet());
+        Query query = entityManager.createQuery("delete from Member m where m.age < :age " +
+                "and m.id not in (select o.member.id from Orders o where o.member is not null)")
+                .setParameter("age", age);
+        BulkUpdateReport report = executeAndRecountTeams("deleteYoungerThanWithoutOrders", query, teamIds);
+        if (report.getAffectedRows() > 0) memberSearchIndexer.purgeAfterCommit(memberIds);
+        return report;
+    }
+
+    private BulkUpdateReport executeAndRecountTeams(String operation, Query query, Collection<Long> teamIds) {
+        BulkUpdateReport report = execute(operation, query);
+        if (report.getAffectedRows() > 0) teamStatsService.recountTeams(teamIds);
+        return report;
+    }
+
+    private BulkUpdateReport execute(String operation, Query query) {
+        entityManager.flush();
+
+        long startedAt = System.nanoTime();
+        int affectedRows = query.executeUpdate();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        detachStaleEntities();
+        return new BulkUpdateReport(operation, affectedRows, elapsedMillis);
+    }
+
+    private void detachStaleEntities() {
+        Arrays.stream(entityManager.unwrap(SessionImplementor.class).getPersistenceContext().reentrantSafeEntityEntries())
+                .map(Map.Entry::getKey)
+                .filter(entity -> entity instanceof Member || entity instanceof Team)
+                .forEach(entityManager::detach);
+    }
+}
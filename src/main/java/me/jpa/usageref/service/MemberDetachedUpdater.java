@@ -0,0 +1,111 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberPatch;
+import me.jpa.usageref.dto.MemberUpdateResult;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
+import java.util.Collections;
+import java.util.StringJoiner;
+
+/**
+ * 준영속 멤버의 변경 내용을 merge() 없이 반영한다.
+ * <p>
+ * merge() 는 식별자로 엔티티를 먼저 조회한 뒤 값을 복사하고 flush 시 모든 컬럼을 UPDATE 하기 때문에 수정 한 건에 SQL 이 두 번 실행된다.
+ * 클라이언트가 조회했던 version 을 알고 있다면 변경된 컬럼만 "where id = ? and version = ?" 조건으로 조회 없이 바로 UPDATE 한다.
+ * 수정된 row 가 없으면 다른 트랜잭션이 먼저 수정한 것이므로 멤버를 조회해서 변경 감지로 반영한다. (merge 와 같이 요청한 값이 이긴다)
+ * <p>
+ * JPQL 벌크 UPDATE 는 Member 2차 캐시 region 전체를 비우기 때문에 Member 와 관계없는 query space 로 native UPDATE 를 실행하고
+ * 수정한 멤버의 캐시만 제거한다. 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 제거한다.
+ * event listener 를 거치지 않기 때문에 나이를 변경한 경우에는 멤버가 속한 팀의 통계를 다시 계산하고,
+ * 이름이나 주소를 변경한 경우에는 UPDATE 한 번으로 끝나도록 커밋 후에 멤버를 조회해서 다시 인덱싱한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional
+public class MemberDetachedUpdater {
+    static final String QUERY_SPACE = "member_detached_update";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TeamStatsService teamStatsService;
+    private final MemberSearchIndexer memberSearchIndexer;
+
+    public MemberDetachedUpdater(TeamStatsService teamStatsService, MemberSearchIndexer memberSearchIndexer) {
+        this.teamStatsService = teamStatsService;
+        this.memberSearchIndexer = memberSearchIndexer;
+    }
+
+    public MemberUpdateResult update(MemberPatch patch) {
+        if (!isManaged(patch.getId()) && executeVersionedUpdate(patch) == 1) {
+            evictFromCache(patch.getId());
+            if (patch.isAgeChanged()) teamStatsService.recountTeamOf(patch.getId());
+            if (patch.isSearchableChanged()) memberSearchIndexer.reindexAfterCommit(Collections.singleton(patch.getId()));
+            return new MemberUpdateResult(patch.getId(), patch.getVersion() + 1, false);
+        }
+        return merge(patch);
+    }
+
+    /**
+     * 이미 영속성 컨텍스트에 있는 멤버를 UPDATE 문으로 수정하면 영속 상태의 멤버가 DB 와 달라지므로 변경 감지로 반영한다.
+     */
+    private boolean isManaged(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        return session.getPersistenceContext()
+                .getEntity(session.generateEntityKey(id, session.getFactory().getMetamodel().entityPersister(Member.class))) != null;
+    }
+
+    private int executeVersionedUpdate(MemberPatch patch) {
+        StringJoiner assignments = new StringJoiner(", ", "update member set ", " where id = :id and version = :version");
+        assignments.add("version = version + 1");
+        if (patch.getName() != null) assignments.add("name = :name");
+        if (patch.getAge() != null) assignments.add("age = :age");
+        if (patch.getAddress() != null) assignments.add("city = :city").add("street = :street");
+
+        NativeQuery<?> query = entityManager.createNativeQuery(assignments.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(QUERY_SPACE)
+                .setParameter("id", patch.getId())
+                .setParameter("version", patch.getVersion());
+        if (patch.getName() != null) query.setParameter("name", patch.getName());
+        if (patch.getAge() != null) query.setParameter("age", patch.getAge());
+        if (patch.getAddress() != null) {
+            query.setParameter("city", patch.getAddress().getCity());
+            query.setParameter("street", patch.getAddress().getStreet());
+        }
+        return query.executeUpdate();
+    }
+
+    private void evictFromCache(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Member.class, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                entityManager.getEntityManagerFactory().getCache().evict(Member.class, id);
+            }
+        });
+    }
+
+    private MemberUpdateResult merge(MemberPatch patch) {
+        Member member = entityManager.find(Member.class, patch.getId());
+        if (member == null) throw new EntityNotFoundException("존재하지 않는 멤버입니다. : " + patch.getId());
+
+        patch.applyTo(member);
+        entityManager.flush();
+        return new MemberUpdateResult(member.getId(), member.getVersion(), true);
+    }
+}
@@ -0,0 +1,122 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.ExportFormat;
+import me.jpa.usageref.dto.ExportReport;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 전체 멤버를 메모리에 올리지 않고 forward-only 커서로 읽으면서 OutputStream 에 기록한다.
+ * 조회한 엔티티는 read-only 로 관리되어 스냅샷을 만들지 않으며, clear-interval 마다 Persistence Context 를 비운다.
+ * 참여한 트랜잭션의 Persistence Context 를 비우기 때문에 호출한 쪽의 flush 되지 않은 변경이 사라지지 않도록 읽기 전용 트랜잭션에서만 실행한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberExporter {
+    private static final String[] MEMBER_COLUMNS = {"id", "name", "age", "city", "street", "team"};
+    private static final String[] ITEM_COLUMNS = {"id", "name"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public MemberExporter(@Value("${usageref.export.fetch-size:500}") int fetchSize,
+                          @Value("${usageref.export.clear-interval:1000}") int clearInterval) {
+        Assert.isTrue(fetchSize > 0, "fetchSize must be greater than zero");
+        Assert.isTrue(clearInterval > 0, "clearInterval must be greater than zero");
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    public ExportReport exportMembers(ExportFormat format, OutputStream outputStream) {
+        Query<Member> query = session().createQuery("select m from Member m left join fetch m.team order by m.id", Member.class);
+        return export(query, format, outputStream, MEMBER_COLUMNS, row -> {
+            Member member = (Member) row[0];
+            Address address = member.getAddress();
+            return new Object[]{
+                    member.getId(),
+                    member.getName(),
+                    member.getAge(),
+                    address == null ? null : address.getCity(),
+                    address == null ? null : address.getStreet(),
+                    member.getTeam() == null ? null : member.getTeam().getName()
+            };
+        });
+    }
+
+    public ExportReport exportItems(ExportFormat format, OutputStream outputStream) {
+        Query<Object[]> query = session().createQuery("select m.id, m.name from Member m order by m.id", Object[].class);
+        return export(query, format, outputStream, ITEM_COLUMNS, row -> row);
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    private ExportReport export(Query<?> query, ExportFormat format, OutputStream outputStream,
+                                String[] columns, RowMapper rowMapper) {
+        Assert.state(TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+                "export must run in a read-only transaction because it clears the persistence context");
+        long startedAt = System.nanoTime();
+        long rowCount = 0;
+        long peakUsedHeap = usedHeap();
+
+        query.setFetchSize(fetchSize)
+                .setReadOnly(true);
+
+        // Query 의 CacheMode 는 scroll() 이 반환되면 원래대로 돌아가기 때문에 row 를 읽는 동안 Session 에 지정한다.
+        Session session = session();
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+
+        try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            ExportRowWriter writer = new ExportRowWriter(format, outputStream, columns);
+            while (results.next()) {
+                writer.writeRow(rowMapper.map(results.get()));
+                if (++rowCount % clearInterval == 0) {
+                    entityManager.clear();
+                    peakUsedHeap = Math.max(peakUsedHeap, usedHeap());
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            entityManager.clear();
+            session.setCacheMode(cacheMode);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new ExportReport(rowCount, elapsedMillis, Math.max(peakUsedHeap, usedHeap()));
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private interface RowMapper {
+        Object[] map(Object[] row);
+    }
+}
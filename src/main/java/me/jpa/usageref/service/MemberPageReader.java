@@ -0,0 +1,71 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberCursor;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberPage;
+import me.jpa.usageref.dto.MemberSortKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberPageReader {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MemberPage<Member> readMembers(MemberSortKey sortKey, String continuationToken, int size) {
+        validateSize(size);
+        TypedQuery<Member> query = createSeekQuery("select m from Member m", sortKey, continuationToken, Member.class);
+        List<Member> members = query.setMaxResults(size + 1).getResultList();
+        return toPage(members, size, member -> MemberCursor.after(sortKey, member.getAge(), member.getId()), Function.identity());
+    }
+
+    public MemberPage<MemberItem> readItems(MemberSortKey sortKey, String continuationToken, int size) {
+        validateSize(size);
+        TypedQuery<Object[]> query = createSeekQuery("select m.id, m.name, m.age from Member m", sortKey, continuationToken, Object[].class);
+        List<Object[]> rows = query.setMaxResults(size + 1).getResultList();
+        return toPage(rows, size,
+                row -> MemberCursor.after(sortKey, (int) row[2], (long) row[0]),
+                row -> new MemberItem((Long) row[0], (String) row[1]));
+    }
+
+    private void validateSize(int size) {
+        Assert.isTrue(size > 0, "size must be greater than zero");
+    }
+
+    private <T> TypedQuery<T> createSeekQuery(String select, MemberSortKey sortKey, String continuationToken, Class<T> resultType) {
+        Assert.notNull(sortKey, "sortKey cannot be null");
+        if (continuationToken == null) {
+            return entityManager.createQuery(select + " order by " + sortKey.getOrderBy(), resultType);
+        }
+
+        MemberCursor cursor = MemberCursor.decode(continuationToken);
+        if (cursor.getSortKey() != sortKey) throw new IllegalArgumentException("정렬 기준이 다른 continuation token 입니다.");
+
+        TypedQuery<T> query = entityManager.createQuery(select + " where " + sortKey.getSeekPredicate() + " order by " + sortKey.getOrderBy(), resultType)
+                .setParameter("id", cursor.getId());
+        if (sortKey.usesAge()) query.setParameter("age", cursor.getAge());
+        return query;
+    }
+
+    private <R, T> MemberPage<T> toPage(List<R> rows, int size, Function<R, MemberCursor> cursorOf, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextToken = hasNext ? cursorOf.apply(pageRows.get(size - 1)).encode() : null;
+        return new MemberPage<>(pageRows.stream().map(mapper).collect(toList()), nextToken);
+    }
+}
@@ -0,0 +1,112 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCHGRAPH;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * 목록 조회용 서비스.
+ * <p>
+ * 영속 상태의 엔티티는 변경 감지를 위해 조회 시점의 값(loaded state) 을 함께 보관하기 때문에 많은 row 를 읽으면 메모리 사용량이 두 배 가까이 늘어난다.
+ * readOnly 트랜잭션은 Session 의 flush mode 를 MANUAL 로, 기본 조회 모드를 read-only 로 변경하지만 쓰기 트랜잭션에 참여하면 적용되지 않으므로
+ * 엔티티 목록은 read-only 힌트로 조회한다. read-only 엔티티는 스냅샷을 보관하지 않고 flush 시 변경 감지에서도 제외된다.
+ * 화면에 필요한 값만 사용한다면 영속성 컨텍스트에 저장되지 않는 DTO 로 조회한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberQueryService {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int multiLoadBatchSize;
+
+    public MemberQueryService(@Value("${usageref.multi-load.batch-size:512}") int multiLoadBatchSize) {
+        Assert.isTrue(multiLoadBatchSize > 0, "multiLoadBatchSize must be greater than zero");
+        this.multiLoadBatchSize = multiLoadBatchSize;
+    }
+
+    public List<Member> findAll() {
+        return entityManager.createQuery("select m from Member m", Member.class)
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    public List<Member> findAllWithTeam() {
+        return entityManager.createNamedQuery(Member.ALL_WITH_TEAM, Member.class)
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    public List<MemberItem> findAllItems() {
+        return entityManager.createNamedQuery(Member.ITEMS, MemberItem.class)
+                .getResultList();
+    }
+
+    public Optional<Member> findByIdWithTeam(Long id) {
+        return Optional.ofNullable(entityManager.find(Member.class, id,
+                Collections.singletonMap(HINT_FETCHGRAPH, entityManager.getEntityGraph(Member.WITH_TEAM))));
+    }
+
+    /**
+     * 식별자 목록의 멤버를 입력 순서대로 반환한다. 존재하지 않는 식별자의 위치에는 null 을 담는다.
+     * <p>
+     * 영속성 컨텍스트와 2차 캐시에 있는 멤버는 SQL 없이 꺼내고, 나머지만 multiLoadBatchSize 개씩 IN 절로 조회한다.
+     * Hibernate 5.3 의 MultiIdentifierLoadAccess 는 2차 캐시를 확인하지 않고 IN 절 padding 도 적용하지 않기 때문에 named query 로 조회한다.
+     */
+    public List<Member> loadMembersByIds(Collection<Long> ids) {
+        Assert.notNull(ids, "ids cannot be null");
+        Map<Long, Member> membersById = new HashMap<>();
+        Set<Long> idsToQuery = new LinkedHashSet<>();
+        for (Long id : ids) {
+            Assert.notNull(id, "id cannot be null");
+            if (membersById.containsKey(id) || idsToQuery.contains(id)) continue;
+
+            Member member = findWithoutQuery(id);
+            if (member != null) membersById.put(id, member);
+            else idsToQuery.add(id);
+        }
+
+        List<Long> remainingIds = new ArrayList<>(idsToQuery);
+        for (int from = 0; from < remainingIds.size(); from += multiLoadBatchSize) {
+            List<Long> batch = remainingIds.subList(from, Math.min(from + multiLoadBatchSize, remainingIds.size()));
+            entityManager.createNamedQuery(Member.BY_IDS, Member.class)
+                    .setParameter("ids", batch)
+                    .getResultList()
+                    .forEach(member -> membersById.put(member.getId(), member));
+        }
+        return ids.stream()
+                .map(membersById::get)
+                .collect(toList());
+    }
+
+    /**
+     * @return 영속성 컨텍스트나 2차 캐시에 없으면 null
+     */
+    private Member findWithoutQuery(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(Member.class);
+        Object managed = session.getPersistenceContext().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) return (Member) managed;
+
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        return cache.contains(Member.class, id) ? entityManager.find(Member.class, id) : null;
+    }
+}
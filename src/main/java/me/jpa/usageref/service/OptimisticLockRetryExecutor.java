@@ -0,0 +1,86 @@
+package me.jpa.usageref.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 작업을 새 트랜잭션에서 실행하고, 다른 트랜잭션과 충돌해서 OptimisticLockException 이 발생하면
+ * backoff 후 새 트랜잭션에서 엔티티를 다시 조회해 작업을 처음부터 다시 실행한다.
+ * <p>
+ * 같은 트랜잭션 안에서 재시도하면 이미 조회한 엔티티를 다시 사용하기 때문에 기존 트랜잭션 안에서는 호출할 수 없다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Component
+public class OptimisticLockRetryExecutor {
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final AtomicLong executionCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+
+    public OptimisticLockRetryExecutor(PlatformTransactionManager transactionManager,
+                                       @Value("${usageref.retry.max-attempts:10}") int maxAttempts,
+                                       @Value("${usageref.retry.initial-backoff-millis:5}") long initialBackoffMillis,
+                                       @Value("${usageref.retry.max-backoff-millis:200}") long maxBackoffMillis) {
+        Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than zero");
+        Assert.isTrue(initialBackoffMillis > 0, "initialBackoffMillis must be greater than zero");
+        Assert.isTrue(maxBackoffMillis >= initialBackoffMillis, "maxBackoffMillis cannot be less than initialBackoffMillis");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> operation) {
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(), "트랜잭션 안에서는 재시도할 수 없습니다.");
+
+        executionCount.incrementAndGet();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> operation.get());
+            } catch (OptimisticLockException | ConcurrencyFailureException e) {
+                conflictCount.incrementAndGet();
+                if (attempt == maxAttempts) throw e;
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 충돌한 트랜잭션들이 같은 시점에 다시 충돌하지 않도록 지수적으로 늘어나는 대기 시간 안에서 무작위로 기다린다. (full jitter)
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 interrupt 되었습니다.", e);
+        }
+    }
+
+    public long getExecutionCount() {
+        return executionCount.get();
+    }
+
+    /**
+     * @return 재시도 여부와 관계 없이 충돌이 발생한 횟수
+     */
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+}
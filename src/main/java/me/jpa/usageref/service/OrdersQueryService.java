@@ -0,0 +1,59 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.dto.OrdersItem;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCHGRAPH;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * 주문 목록은 변경 감지가 필요 없으므로 read-only 로 조회한다. (MemberQueryService 참고)
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrdersQueryService {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Orders> findAll() {
+        return entityManager.createNamedQuery(Orders.ALL, Orders.class)
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    public List<OrdersItem> findAllItems() {
+        return entityManager.createNamedQuery(Orders.ITEMS, OrdersItem.class)
+                .getResultList();
+    }
+
+    public List<Orders> findAllWithMemberAndProduct() {
+        return findAllWithGraph(Orders.WITH_MEMBER_AND_PRODUCT);
+    }
+
+    public List<Orders> findAllWithMemberTeamAndProduct() {
+        return findAllWithGraph(Orders.WITH_MEMBER_TEAM_AND_PRODUCT);
+    }
+
+    private List<Orders> findAllWithGraph(String graphName) {
+        return entityManager.createNamedQuery(Orders.ALL, Orders.class)
+                .setHint(HINT_FETCHGRAPH, entityManager.getEntityGraph(graphName))
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    public Optional<Orders> findByIdWithMemberAndProduct(Long id) {
+        return Optional.ofNullable(entityManager.find(Orders.class, id,
+                Collections.singletonMap(HINT_FETCHGRAPH, entityManager.getEntityGraph(Orders.WITH_MEMBER_AND_PRODUCT))));
+    }
+}
@@ -0,0 +1,67 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.dto.OrdersReportFilter;
+import me.jpa.usageref.dto.OrdersReportItem;
+import me.jpa.usageref.dto.OrdersReportPage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 내역을 주문, 멤버, 팀, 상품을 join 한 한 번의 SQL 로 조회한다.
+ * <p>
+ * 엔티티를 조회하지 않고 필요한 컬럼만 OrdersReportItem 생성자로 조회하기 때문에 영속성 컨텍스트와 2차 캐시를 거치지 않는다.
+ * 페이지는 주문 id 오름차순의 keyset 으로 나눈다. (o.id > 이전 페이지의 마지막 주문 id)
+ * H2 는 index 를 역순으로 읽지 못해 id 내림차순으로 정렬하면 조건에 맞는 주문 전체를 정렬하므로 오름차순을 사용한다.
+ * 필터는 값이 있는 조건만 where 절에 추가해서 멤버, 상품 조건은 orders 의 외래 키 index 를, 팀 조건은 member 의 team_id index 를 사용한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrdersReportService {
+    private static final String SELECT = "select new me.jpa.usageref.dto.OrdersReportItem(o.id, m.name, t.name, p.name) " +
+            "from Orders o join o.member m left join m.team t join o.product p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param afterOrderId 이전 페이지의 마지막 주문 id, 첫 페이지는 null
+     */
+    public OrdersReportPage readPage(OrdersReportFilter filter, Long afterOrderId, int size) {
+        Assert.notNull(filter, "filter cannot be null");
+        Assert.isTrue(size > 0, "size must be greater than zero");
+
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addPredicate(predicates, parameters, "o.member.id = :memberId", "memberId", filter.getMemberId());
+        addPredicate(predicates, parameters, "m.team.id = :teamId", "teamId", filter.getTeamId());
+        addPredicate(predicates, parameters, "o.product.id = :productId", "productId", filter.getProductId());
+        addPredicate(predicates, parameters, "o.id > :afterOrderId", "afterOrderId", afterOrderId);
+
+        String where = predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+        TypedQuery<OrdersReportItem> query = entityManager.createQuery(SELECT + where + " order by o.id", OrdersReportItem.class);
+        parameters.forEach(query::setParameter);
+        List<OrdersReportItem> items = query.setMaxResults(size + 1).getResultList();
+
+        boolean hasNext = items.size() > size;
+        List<OrdersReportItem> content = hasNext ? items.subList(0, size) : items;
+        return new OrdersReportPage(content, hasNext ? content.get(size - 1).getOrderId() : null);
+    }
+
+    private void addPredicate(List<String> predicates, Map<String, Object> parameters, String predicate, String name, Long value) {
+        if (value == null) return;
+        predicates.add(predicate);
+        parameters.put(name, value);
+    }
+}
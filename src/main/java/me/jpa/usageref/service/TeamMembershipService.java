@@ -0,0 +1,46 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+/**
+ * 팀 가입은 member.team_id 만 변경하기 때문에 같은 팀에 동시에 가입하는 트랜잭션들은 서로를 알 수 없다.
+ * 팀의 version 을 강제로 증가(OPTIMISTIC_FORCE_INCREMENT) 시켜 같은 팀의 멤버 구성을 변경하는 트랜잭션 중 하나만 커밋되도록 하고,
+ * 나머지는 OptimisticLockRetryExecutor 가 팀과 멤버를 다시 조회해서 가입을 다시 시도한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+public class TeamMembershipService {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final OptimisticLockRetryExecutor retryExecutor;
+
+    public TeamMembershipService(OptimisticLockRetryExecutor retryExecutor) {
+        this.retryExecutor = retryExecutor;
+    }
+
+    public void join(Long memberId, Long teamId) {
+        retryExecutor.execute(() -> {
+            Member member = findMember(memberId);
+            Team team = entityManager.find(Team.class, teamId, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            if (team == null) throw new IllegalArgumentException("존재하지 않는 팀입니다. : " + teamId);
+
+            team.addMember(member);
+            return null;
+        });
+    }
+
+    private Member findMember(Long memberId) {
+        Member member = entityManager.find(Member.class, memberId);
+        if (member == null) throw new IllegalArgumentException("존재하지 않는 멤버입니다. : " + memberId);
+        return member;
+    }
+}
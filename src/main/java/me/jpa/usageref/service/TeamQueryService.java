@@ -0,0 +1,77 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.TeamItem;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class TeamQueryService {
+    public static final String TEAM_BY_NAME_CACHE_REGION = "usageref.query.team-by-name";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * getResultStream() 은 scroll 로 실행되어 query 캐시를 사용하지 않기 때문에 getResultList() 로 조회한다.
+     */
+    public Optional<Team> findByName(String name) {
+        return entityManager.createNamedQuery(Team.BY_NAME, Team.class)
+                .setParameter("name", name)
+                .setHint(HINT_CACHEABLE, true)
+                .setHint(HINT_CACHE_REGION, TEAM_BY_NAME_CACHE_REGION)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 팀과 멤버를 함께 조회한다.
+     * <p>
+     * 팀 목록을 fetch join 으로 조회하면 팀 수 x 멤버 수 만큼의 row 를 읽고 페이징도 할 수 없기 때문에,
+     * 팀 목록을 조회한 뒤 멤버 컬렉션을 초기화한다.
+     * 멤버 컬렉션은 팀 목록을 조회한 query 를 subselect 로 사용해서 한 번에 조회하므로 전체 SQL 수는 2 번이다.
+     * 팀은 read-only 로 조회하고, 멤버는 readOnly 트랜잭션에서 호출한 경우에만 read-only 로 조회된다.
+     */
+    public List<Team> findAllWithMembers() {
+        return initializeMembers(entityManager.createNamedQuery(Team.ALL, Team.class)
+                .setHint(HINT_READONLY, true)
+                .getResultList());
+    }
+
+    public List<Team> findByNamesWithMembers(Collection<String> names) {
+        if (names.isEmpty()) return Collections.emptyList();
+
+        return initializeMembers(entityManager.createNamedQuery(Team.BY_NAMES, Team.class)
+                .setParameter("names", names)
+                .setHint(HINT_READONLY, true)
+                .getResultList());
+    }
+
+    public List<TeamItem> findAllItems() {
+        return entityManager.createNamedQuery(Team.ITEMS, TeamItem.class)
+                .getResultList();
+    }
+
+    private List<Team> initializeMembers(List<Team> teams) {
+        teams.forEach(team -> Hibernate.initialize(team.getMembers()));
+        return teams;
+    }
+}
@@ -0,0 +1,131 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.domain.TeamStats;
+import me.jpa.usageref.dto.TeamStatsItem;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 팀별 멤버 수와 나이 통계를 team_stats 에서 팀 수만큼만 읽어서 반환한다.
+ * member 테이블을 group by 하는 집계는 team_stats 를 다시 만들거나 검증할 때만 사용한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+public class TeamStatsService {
+    private static final String SELECT_STATS = "select new me.jpa.usageref.dto.TeamStatsItem(t.name, s.memberCount, s.ageSum, s.minAge, s.maxAge) " +
+            "from TeamStats s join s.team t ";
+    private static final String DELETE_ALL_SQL = "delete from team_stats";
+    private static final String REBUILD_SQL = "insert into team_stats (team_id, member_count, age_sum, min_age, max_age) " +
+            "select t.id, count(m.id), coalesce(sum(m.age), 0), min(m.age), max(m.age) " +
+            "from team t left join member m on m.team_id = t.id " +
+            "group by t.id";
+    private static final String RECOUNT_SQL = "update team_stats set " +
+            "member_count = (select count(*) from member m where m.team_id = team_stats.team_id), " +
+            "age_sum = (select coalesce(sum(m.age), 0) from member m where m.team_id = team_stats.team_id), " +
+            "min_age = (select min(m.age) from member m where m.team_id = team_stats.team_id), " +
+            "max_age = (select max(m.age) from member m where m.team_id = team_stats.team_id) ";
+    private static final String RECOUNT_TEAM_OF_MEMBER_SQL = RECOUNT_SQL + "where team_id = (select m.team_id from member m where m.id = :memberId)";
+    private static final String RECOUNT_TEAMS_SQL = RECOUNT_SQL + "where team_id in (:teamIds)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<TeamStatsItem> findAll() {
+        return entityManager.createQuery(SELECT_STATS + "order by t.name", TeamStatsItem.class)
+                .getResultList();
+    }
+
+    public Optional<TeamStatsItem> findByTeamName(String teamName) {
+        return entityManager.createQuery(SELECT_STATS + "where t.name = :teamName", TeamStatsItem.class)
+                .setParameter("teamName", teamName)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * member 테이블을 직접 group by 해서 계산한 현재 통계.
+     */
+    public List<TeamStatsItem> aggregate() {
+        return entityManager.createNamedQuery(Team.MEMBER_STATS, TeamStatsItem.class)
+                .getResultList();
+    }
+
+    /**
+     * @return team_stats 의 값이 실제 집계와 다르거나 team_stats 에 없는 팀의 이름
+     */
+    public List<String> findMismatchedTeamNames() {
+        Map<String, TeamStatsItem> storedByTeamName = findAll().stream()
+                .collect(toMap(TeamStatsItem::getTeamName, Function.identity()));
+
+        return aggregate().stream()
+                .filter(live -> !Objects.equals(live, storedByTeamName.get(live.getTeamName())))
+                .map(TeamStatsItem::getTeamName)
+                .collect(toList());
+    }
+
+    /**
+     * team_stats 를 비우고 member 테이블의 집계로 다시 채운다.
+     *
+     * @return 다시 만든 팀 통계의 수
+     */
+    @Transactional
+    public int rebuild() {
+        executeNativeUpdate(DELETE_ALL_SQL);
+        return executeNativeUpdate(REBUILD_SQL);
+    }
+
+    /**
+     * event listener 를 거치지 않고 멤버의 나이를 변경한 경우 멤버가 속한 팀의 통계만 member 테이블에서 다시 계산한다.
+     *
+     * @return 다시 계산한 팀 통계의 수. 팀이 없는 멤버라면 0
+     */
+    @Transactional
+    public int recountTeamOf(Long memberId) {
+        return entityManager.createNativeQuery(RECOUNT_TEAM_OF_MEMBER_SQL)
+                .setParameter("memberId", memberId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(TeamStats.class)
+                .executeUpdate();
+    }
+
+    /**
+     * 벌크 연산으로 멤버 수나 나이가 바뀐 팀의 통계만 member 테이블에서 다시 계산한다.
+     *
+     * @return 다시 계산한 팀 통계의 수
+     */
+    @Transactional
+    public int recountTeams(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) return 0;
+
+        return entityManager.createNativeQuery(RECOUNT_TEAMS_SQL)
+                .setParameter("teamIds", teamIds)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(TeamStats.class)
+                .executeUpdate();
+    }
+
+    private int executeNativeUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(TeamStats.class)
+                .executeUpdate();
+    }
+}
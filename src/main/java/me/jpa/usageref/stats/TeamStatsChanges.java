@@ -0,0 +1,117 @@
+package me.jpa.usageref.stats;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 하나의 Session 에서 flush 되는 동안 모아둔 팀별 통계 변경분.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+class TeamStatsChanges {
+    private final Set<Long> createdTeamIds = new LinkedHashSet<>();
+    private final Map<Long, Delta> deltas = new LinkedHashMap<>();
+
+    void teamCreated(Long teamId) {
+        createdTeamIds.add(teamId);
+    }
+
+    void teamDeleted(Long teamId) {
+        createdTeamIds.remove(teamId);
+        deltas.remove(teamId);
+    }
+
+    void memberAdded(Long teamId, int age) {
+        if (teamId != null) deltaOf(teamId).add(age);
+    }
+
+    void memberRemoved(Long teamId, int age) {
+        if (teamId != null) deltaOf(teamId).remove(age);
+    }
+
+    /**
+     * 변경 전 상태를 알 수 없을 때는 해당 팀의 통계를 member 테이블에서 다시 계산한다.
+     */
+    void recount(Long teamId) {
+        if (teamId != null) deltaOf(teamId).recount = true;
+    }
+
+    private Delta deltaOf(Long teamId) {
+        return deltas.computeIfAbsent(teamId, id -> new Delta());
+    }
+
+    Set<Long> getCreatedTeamIds() {
+        return createdTeamIds;
+    }
+
+    Map<Long, Delta> getDeltas() {
+        return deltas;
+    }
+
+    boolean isEmpty() {
+        return createdTeamIds.isEmpty() && deltas.isEmpty();
+    }
+
+    static class Delta {
+        private long memberCount;
+        private long ageSum;
+        private Integer addedMinAge;
+        private Integer addedMaxAge;
+        private Integer removedMinAge;
+        private Integer removedMaxAge;
+        private boolean recount;
+
+        private void add(int age) {
+            memberCount++;
+            ageSum += age;
+            addedMinAge = min(addedMinAge, age);
+            addedMaxAge = max(addedMaxAge, age);
+        }
+
+        private void remove(int age) {
+            memberCount--;
+            ageSum -= age;
+            removedMinAge = min(removedMinAge, age);
+            removedMaxAge = max(removedMaxAge, age);
+        }
+
+        private static Integer min(Integer current, int age) {
+            return current == null ? age : Math.min(current, age);
+        }
+
+        private static Integer max(Integer current, int age) {
+            return current == null ? age : Math.max(current, age);
+        }
+
+        long getMemberCount() {
+            return memberCount;
+        }
+
+        long getAgeSum() {
+            return ageSum;
+        }
+
+        Integer getAddedMinAge() {
+            return addedMinAge;
+        }
+
+        Integer getAddedMaxAge() {
+            return addedMaxAge;
+        }
+
+        Integer getRemovedMinAge() {
+            return removedMinAge;
+        }
+
+        Integer getRemovedMaxAge() {
+            return removedMaxAge;
+        }
+
+        boolean isRecount() {
+            return recount;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package me.jpa.usageref.stats;
+
+import me.jpa.usageref.service.TeamStatsService;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Collections;
+
+/**
+ * Member, Team 의 변경을 team_stats 에 증분으로 반영하는 Hibernate event listener 를 등록하고,
+ * 주기적으로 team_stats 를 검증하는 TeamStatsReconciler 를 실행한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "usageref.team-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class TeamStatsConfiguration {
+    @Bean
+    public HibernatePropertiesCustomizer teamStatsHibernatePropertiesCustomizer() {
+        IntegratorProvider integratorProvider = () -> Collections.singletonList(new TeamStatsIntegrator());
+        return hibernateProperties -> hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integratorProvider);
+    }
+
+    @Bean
+    public TeamStatsReconciler teamStatsReconciler(TeamStatsService teamStatsService) {
+        return new TeamStatsReconciler(teamStatsService);
+    }
+}
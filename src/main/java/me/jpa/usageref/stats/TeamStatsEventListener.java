@@ -0,0 +1,204 @@
+package me.jpa.usageref.stats;
+
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.stats.TeamStatsChanges.Delta;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Member, Team 의 INSERT/UPDATE/DELETE 이벤트로부터 팀별 통계 변경분을 모았다가 flush 가 끝난 뒤 team_stats 에 반영한다.
+ * <p>
+ * 엔티티마다 바로 SQL 을 실행하면 JDBC batch 가 끊기기 때문에 flush 동안에는 변경분만 모으고,
+ * flush 가 끝나면 팀마다 한 번씩 증분 UPDATE 를 batch 로 실행한다.
+ * 최솟값이나 최댓값에 해당하는 나이가 빠진 경우에만 해당 팀의 member 를 다시 조회해서 계산한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+class TeamStatsEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        FlushEventListener, AutoFlushEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private static final String INSERT_SQL = "insert into team_stats (team_id, member_count, age_sum) values (?, 0, 0)";
+    private static final String APPLY_DELTA_SQL = "update team_stats set " +
+            "member_count = member_count + ?, " +
+            "age_sum = age_sum + ?, " +
+            "min_age = case when min_age >= ? then (select min(m.age) from member m where m.team_id = team_stats.team_id) " +
+            "else coalesce(least(min_age, ?), min_age, ?) end, " +
+            "max_age = case when max_age <= ? then (select max(m.age) from member m where m.team_id = team_stats.team_id) " +
+            "else coalesce(greatest(max_age, ?), max_age, ?) end " +
+            "where team_id = ?";
+    private static final String RECOUNT_SQL = "update team_stats set " +
+            "member_count = (select count(*) from member m where m.team_id = team_stats.team_id), " +
+            "age_sum = (select coalesce(sum(m.age), 0) from member m where m.team_id = team_stats.team_id), " +
+            "min_age = (select min(m.age) from member m where m.team_id = team_stats.team_id), " +
+            "max_age = (select max(m.age) from member m where m.team_id = team_stats.team_id) " +
+            "where team_id = ?";
+
+    private static final String TEAM = "team";
+    private static final String AGE = "age";
+
+    private final Map<EventSource, TeamStatsChanges> changesBySession = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Team) {
+            changesOf(event.getSession()).teamCreated((Long) event.getId());
+        } else if (event.getEntity() instanceof Member) {
+            Object[] state = event.getState();
+            EntityPersister persister = event.getPersister();
+            changesOf(event.getSession()).memberAdded(teamIdOf(state, persister), ageOf(state, persister));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Member) || !isTeamOrAgeChanged(event)) return;
+
+        EntityPersister persister = event.getPersister();
+        TeamStatsChanges changes = changesOf(event.getSession());
+        if (event.getOldState() == null) {
+            changes.recount(teamIdOf(event.getState(), persister));
+            return;
+        }
+        changes.memberRemoved(teamIdOf(event.getOldState(), persister), ageOf(event.getOldState(), persister));
+        changes.memberAdded(teamIdOf(event.getState(), persister), ageOf(event.getState(), persister));
+    }
+
+    private boolean isTeamOrAgeChanged(PostUpdateEvent event) {
+        if (event.getDirtyProperties() == null) return true;
+
+        int teamIndex = event.getPersister().getEntityMetamodel().getPropertyIndex(TEAM);
+        int ageIndex = event.getPersister().getEntityMetamodel().getPropertyIndex(AGE);
+        for (int dirtyProperty : event.getDirtyProperties()) {
+            if (dirtyProperty == teamIndex || dirtyProperty == ageIndex) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Team) {
+            changesOf(event.getSession()).teamDeleted((Long) event.getId());
+        } else if (event.getEntity() instanceof Member) {
+            Object[] state = event.getDeletedState();
+            EntityPersister persister = event.getPersister();
+            changesOf(event.getSession()).memberRemoved(teamIdOf(state, persister), ageOf(state, persister));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Hibernate 5.3 에서는 아직 abstract 이기 때문에 구현하고 requiresPostCommitHandling 에 위임한다.
+     */
+    @Override
+    @Deprecated
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return requiresPostCommitHandling(persister);
+    }
+
+    private TeamStatsChanges changesOf(EventSource session) {
+        return changesBySession.computeIfAbsent(session, key -> new TeamStatsChanges());
+    }
+
+    private Long teamIdOf(Object[] state, EntityPersister persister) {
+        Object team = state[persister.getEntityMetamodel().getPropertyIndex(TEAM)];
+        if (team == null) return null;
+        if (team instanceof HibernateProxy) return (Long) ((HibernateProxy) team).getHibernateLazyInitializer().getIdentifier();
+        return ((Team) team).getId();
+    }
+
+    private int ageOf(Object[] state, EntityPersister persister) {
+        return (int) state[persister.getEntityMetamodel().getPropertyIndex(AGE)];
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        apply(event.getSession());
+    }
+
+    @Override
+    public void onAutoFlush(AutoFlushEvent event) {
+        apply(event.getSession());
+    }
+
+    private void apply(EventSource session) {
+        TeamStatsChanges changes = changesBySession.remove(session);
+        if (changes == null || changes.isEmpty()) return;
+
+        session.doWork(connection -> {
+            insertCreatedTeams(connection, changes.getCreatedTeamIds());
+            applyDeltas(connection, changes.getDeltas());
+        });
+    }
+
+    private void insertCreatedTeams(Connection connection, Collection<Long> teamIds) throws SQLException {
+        if (teamIds.isEmpty()) return;
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (Long teamId : teamIds) {
+                statement.setLong(1, teamId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void applyDeltas(Connection connection, Map<Long, Delta> deltas) throws SQLException {
+        if (deltas.isEmpty()) return;
+
+        try (PreparedStatement applyDelta = connection.prepareStatement(APPLY_DELTA_SQL);
+             PreparedStatement recount = connection.prepareStatement(RECOUNT_SQL)) {
+            boolean hasDelta = false;
+            boolean hasRecount = false;
+            for (Map.Entry<Long, Delta> entry : deltas.entrySet()) {
+                if (entry.getValue().isRecount()) {
+                    recount.setLong(1, entry.getKey());
+                    recount.addBatch();
+                    hasRecount = true;
+                } else {
+                    bindDelta(applyDelta, entry.getKey(), entry.getValue());
+                    applyDelta.addBatch();
+                    hasDelta = true;
+                }
+            }
+            if (hasDelta) applyDelta.executeBatch();
+            if (hasRecount) recount.executeBatch();
+        }
+    }
+
+    private void bindDelta(PreparedStatement statement, Long teamId, Delta delta) throws SQLException {
+        statement.setLong(1, delta.getMemberCount());
+        statement.setLong(2, delta.getAgeSum());
+        setInteger(statement, 3, delta.getRemovedMinAge());
+        setInteger(statement, 4, delta.getAddedMinAge());
+        setInteger(statement, 5, delta.getAddedMinAge());
+        setInteger(statement, 6, delta.getRemovedMaxAge());
+        setInteger(statement, 7, delta.getAddedMaxAge());
+        setInteger(statement, 8, delta.getAddedMaxAge());
+        statement.setLong(9, teamId);
+    }
+
+    private void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setInt(index, value);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.jpa.usageref.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import me.jpa.usageref.dto.TeamStatsReconcileReport;
+import me.jpa.usageref.service.TeamStatsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * team_stats 를 member 테이블의 실제 집계와 비교하고, 다른 팀이 있으면 team_stats 전체를 다시 만든다.
+ * 증분 갱신을 거치지 않는 변경(ex. 직접 실행한 SQL) 이나 동시에 실행된 재계산 때문에 생긴 차이를 바로잡는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Slf4j
+public class TeamStatsReconciler {
+    private final TeamStatsService teamStatsService;
+
+    public TeamStatsReconciler(TeamStatsService teamStatsService) {
+        this.teamStatsService = teamStatsService;
+    }
+
+    @Scheduled(cron = "${usageref.team-stats.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public TeamStatsReconcileReport reconcile() {
+        long startedAt = System.nanoTime();
+        List<String> mismatchedTeamNames = teamStatsService.findMismatchedTeamNames();
+        int checkedTeamCount = teamStatsService.findAll().size();
+
+        boolean rebuilt = !mismatchedTeamNames.isEmpty();
+        if (rebuilt) {
+            log.warn("team_stats 가 실제 집계와 다르기 때문에 다시 만듭니다. : {}", mismatchedTeamNames);
+            teamStatsService.rebuild();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new TeamStatsReconcileReport(checkedTeamCount, mismatchedTeamNames, rebuilt, elapsedMillis);
+    }
+}
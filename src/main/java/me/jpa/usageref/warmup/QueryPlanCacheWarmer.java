@@ -0,0 +1,91 @@
+package me.jpa.usageref.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import me.jpa.usageref.dto.QueryWarmUpReport;
+import org.hibernate.CacheMode;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.NamedQuery;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+
+/**
+ * 애플리케이션이 요청을 받기 전에 엔티티에 선언된 @NamedQuery 를 한 번씩 실행해서 첫 요청의 지연 시간을 줄인다.
+ * <p>
+ * Named query 의 HQL 파싱과 SQL 변환 결과(HQLQueryPlan) 는 hibernate.query.startup_check 로 부팅 시 검증하면서 query plan 캐시에 저장된다.
+ * 여기서는 파라미터가 있는 query 를 모든 파라미터가 null 인 조건으로 실행해서 결과 없이 JDBC PreparedStatement 생성, 결과 처리 경로까지 미리 실행한다.
+ * 파라미터가 없는 query 는 전체 테이블을 읽을 수 있기 때문에 query plan 만 준비하고 실행하지 않는다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Slf4j
+public class QueryPlanCacheWarmer implements SmartInitializingSingleton {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private QueryWarmUpReport lastReport;
+
+    public QueryPlanCacheWarmer(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        lastReport = warmUp();
+        log.info("{} 개의 named query 를 준비했습니다. ({}ms)", lastReport.getQueryNames().size(), lastReport.getElapsedMillis());
+    }
+
+    public QueryWarmUpReport warmUp() {
+        long startedAt = System.nanoTime();
+        List<String> queryNames = findNamedQueryNames();
+        int executedCount = readOnlyTransactionTemplate.execute(status -> (int) queryNames.stream()
+                .filter(this::warmUp)
+                .count());
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new QueryWarmUpReport(queryNames, executedCount, elapsedMillis);
+    }
+
+    private List<String> findNamedQueryNames() {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .flatMap(entityType -> Stream.of(entityType.getAnnotationsByType(NamedQuery.class)))
+                .map(NamedQuery::name)
+                .sorted()
+                .collect(toList());
+    }
+
+    /**
+     * @return query 를 실행했으면 true, query plan 만 준비했으면 false
+     */
+    private boolean warmUp(String queryName) {
+        Query query = entityManager.createNamedQuery(queryName);
+        if (query.getParameters().isEmpty()) return false;
+
+        query.getParameters().forEach(parameter -> query.setParameter(parameter.getName(), null));
+        query.setHint(HINT_CACHE_MODE, CacheMode.IGNORE)
+                .setMaxResults(1)
+                .getResultList();
+        return true;
+    }
+
+    public QueryWarmUpReport getLastReport() {
+        return lastReport;
+    }
+}
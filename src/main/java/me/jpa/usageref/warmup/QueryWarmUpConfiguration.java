@@ -0,0 +1,21 @@
+package me.jpa.usageref.warmup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "usageref.query-warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryWarmUpConfiguration {
+    @Bean
+    public QueryPlanCacheWarmer queryPlanCacheWarmer(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        return new QueryPlanCacheWarmer(entityManagerFactory, transactionManager);
+    }
+}
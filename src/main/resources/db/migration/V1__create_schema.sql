@@ -0,0 +1,45 @@
+create sequence member_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence product_seq start with 1 increment by 50;
+create sequence team_seq start with 1 increment by 50;
+
+create table team (
+    id   bigint       not null,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_team_name unique (name)
+);
+
+create table member (
+    id      bigint       not null,
+    city    varchar(255),
+    street  varchar(255),
+    age     integer      not null,
+    name    varchar(255) not null,
+    team_id bigint,
+    primary key (id)
+);
+
+create table product (
+    id   bigint       not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table orders (
+    id         bigint not null,
+    member_id  bigint,
+    product_id bigint,
+    primary key (id)
+);
+
+create index idx_member_name on member (name);
+create index idx_member_age_id on member (age, id);
+create index idx_member_team_id on member (team_id);
+create index idx_orders_member_id on orders (member_id);
+create index idx_orders_product_id on orders (product_id);
+
+-- index 를 먼저 만들어야 외래 키가 별도의 index 를 만들지 않고 위의 index 를 사용한다.
+alter table member add constraint fk_member_team foreign key (team_id) references team (id);
+alter table orders add constraint fk_orders_member foreign key (member_id) references member (id);
+alter table orders add constraint fk_orders_product foreign key (product_id) references product (id);
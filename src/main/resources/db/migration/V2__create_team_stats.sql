@@ -0,0 +1,17 @@
+create table team_stats (
+    team_id      bigint  not null,
+    member_count bigint  not null,
+    age_sum      bigint  not null,
+    min_age      integer,
+    max_age      integer,
+    primary key (team_id)
+);
+
+-- 팀이 삭제되면 통계도 함께 삭제한다.
+alter table team_stats add constraint fk_team_stats_team foreign key (team_id) references team (id) on delete cascade;
+
+insert into team_stats (team_id, member_count, age_sum, min_age, max_age)
+select t.id, count(m.id), coalesce(sum(m.age), 0), min(m.age), max(m.age)
+from team t
+         left join member m on m.team_id = t.id
+group by t.id;
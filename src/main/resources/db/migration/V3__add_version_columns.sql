@@ -0,0 +1,2 @@
+alter table member add column version bigint default 0 not null;
+alter table team add column version bigint default 0 not null;
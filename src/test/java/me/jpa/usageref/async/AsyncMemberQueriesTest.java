@@ -0,0 +1,169 @@
+package me.jpa.usageref.async;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.MemberDashboard;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberSortKey;
+import me.jpa.usageref.service.MemberPageReader;
+import me.jpa.usageref.service.TeamStatsService;
+import me.jpa.usageref.stats.TeamStatsConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = {
+        "usageref.async.max-concurrency=" + AsyncMemberQueriesTest.MAX_CONCURRENCY,
+        "usageref.async.queue-capacity=2000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AsyncQueryConfiguration.class, MemberPageReader.class, TeamStatsService.class, TeamStatsConfiguration.class})
+@Description({
+        "조회는 executor 의 스레드에서 각자의 트랜잭션으로 실행되기 때문에 테스트 데이터는 직접 커밋한다.",
+        "동시에 실행되는 조회의 수는 커넥션 풀 크기(max-concurrency) 를 넘지 않아야 한다."
+})
+public class AsyncMemberQueriesTest {
+    static final int MAX_CONCURRENCY = 8;
+
+    private static final int TEAM_COUNT = 10;
+    private static final int MEMBER_COUNT = 1_000;
+    private static final int CALLER_COUNT = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AsyncMemberQueries asyncMemberQueries;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private MemberPageReader memberPageReader;
+
+    @Autowired
+    private TeamStatsService teamStatsService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> {
+            List<Team> teams = new ArrayList<>();
+            IntStream.range(0, TEAM_COUNT).forEach(i -> {
+                Team team = Team.builder().name("team" + i).build();
+                entityManager.persist(team);
+                teams.add(team);
+            });
+            IntStream.range(0, MEMBER_COUNT).forEach(i -> {
+                Member member = Member.builder().name("member" + i).age(i % 100).build();
+                member.joinTeam(teams.get(i % TEAM_COUNT));
+                entityManager.persist(member);
+            });
+            return null;
+        });
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> {
+            entityManager.createQuery("delete from Member").executeUpdate();
+            entityManager.createQuery("delete from Team").executeUpdate();
+            return null;
+        });
+    }
+
+    @Test
+    public void 조회_결과를_CompletableFuture_로_반환해야한다() throws Exception {
+        //When
+        CompletableFuture<List<MemberItem>> byName = asyncMemberQueries.findByName("member1");
+        CompletableFuture<List<MemberItem>> byAge = asyncMemberQueries.findItemsByAgeGreaterThanEqual(90);
+        CompletableFuture<Long> count = asyncMemberQueries.countByAgeGreaterThanEqual(90);
+
+        //Then
+        assertThat(byName.get(10, TimeUnit.SECONDS)).extracting(MemberItem::getName).containsExactly("member1");
+        assertThat(byAge.get(10, TimeUnit.SECONDS)).hasSize(100);
+        assertThat(count.get(10, TimeUnit.SECONDS)).isEqualTo(100L);
+    }
+
+    @Test
+    @Description("멤버 페이지와 팀 통계는 서로 다른 작업에서 동시에 조회한 뒤 합쳐져야 한다.")
+    public void 멤버_페이지와_팀_통계를_함께_조회해야한다() throws Exception {
+        //When
+        MemberDashboard dashboard = asyncMemberQueries.loadDashboard(MemberSortKey.ID, null, 20).get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(dashboard.getMemberPage().getContent()).hasSize(20);
+        assertThat(dashboard.getMemberPage().hasNext()).isTrue();
+        assertThat(dashboard.getTeamStats()).hasSize(TEAM_COUNT);
+        assertThat(dashboard.getTeamStats()).allSatisfy(stats -> assertThat(stats.getMemberCount()).isEqualTo(MEMBER_COUNT / TEAM_COUNT));
+    }
+
+    @Test
+    @Description({
+            "500 명이 동시에 대시보드를 조회해도 모든 조회가 완료되어야 하며,",
+            "스레드 수에 제한이 없는 executor 에서도 동시에 실행된 조회의 수는 max-concurrency 를 넘지 않아야 한다.",
+            "설정된 executor 는 스레드 수가 max-concurrency 와 같아서 semaphore 없이도 넘지 않기 때문에 cached thread pool 을 사용한다."
+    })
+    public void 동시에_500명이_조회해도_동시_실행_수는_max_concurrency_를_넘지_않아야한다() throws Exception {
+        //Given
+        ThreadPoolExecutor unboundedExecutor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        AsyncMemberQueries unboundedQueries = new AsyncMemberQueries(unboundedExecutor, MAX_CONCURRENCY, transactionManager,
+                memberPageReader, teamStatsService);
+        beanFactory.autowireBean(unboundedQueries);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLER_COUNT);
+        CountDownLatch ready = new CountDownLatch(CALLER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MemberDashboard>> futures = new ArrayList<>();
+
+        //When
+        IntStream.range(0, CALLER_COUNT).forEach(i -> futures.add(callers.submit(() -> {
+            ready.countDown();
+            start.await();
+            return unboundedQueries.loadDashboard(MemberSortKey.AGE_ID, null, 20).get();
+        })));
+        ready.await();
+        start.countDown();
+        List<MemberDashboard> dashboards = new ArrayList<>();
+        for (Future<MemberDashboard> future : futures) {
+            dashboards.add(future.get(1, TimeUnit.MINUTES));
+        }
+        callers.shutdown();
+        unboundedExecutor.shutdown();
+
+        //Then
+        assertThat(dashboards).hasSize(CALLER_COUNT)
+                .allSatisfy(dashboard -> assertThat(dashboard.getTeamStats()).hasSize(TEAM_COUNT));
+        assertThat(unboundedExecutor.getLargestPoolSize()).isGreaterThan(MAX_CONCURRENCY);
+        assertThat(unboundedQueries.getPeakConcurrency()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+}
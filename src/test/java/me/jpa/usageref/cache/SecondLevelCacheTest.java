@@ -0,0 +1,276 @@
+package me.jpa.usageref.cache;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.CacheRegionStatisticsItem;
+import me.jpa.usageref.metrics.QueryMetricsConfiguration;
+import me.jpa.usageref.metrics.QueryStatisticsEndpoint;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import me.jpa.usageref.service.MemberBulkUpdater;
+import me.jpa.usageref.service.MemberQueryService;
+import me.jpa.usageref.service.TeamQueryService;
+import me.jpa.usageref.service.TeamStatsService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SecondLevelCacheConfiguration.class, QueryMetricsConfiguration.class, TeamQueryService.class, MemberBulkUpdater.class, MemberSearchIndexer.class, TeamStatsService.class,
+        MemberQueryService.class})
+@Description({
+        "Persistence Context 는 트랜잭션 범위의 1차 캐시이기 때문에 트랜잭션이 바뀌면 Team, Product 같은 참조 데이터를 다시 조회한다.",
+        "2차 캐시는 EntityManagerFactory 범위에서 공유되므로 트랜잭션이 달라도 SQL 없이 엔티티를 꺼낼 수 있다.",
+        "READ_WRITE 전략은 커밋된 데이터만 캐시에 반영하기 때문에 이 테스트는 트랜잭션을 직접 커밋한다."
+})
+public class SecondLevelCacheTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TeamQueryService teamQueryService;
+
+    @Autowired
+    private QueryStatisticsEndpoint queryStatisticsEndpoint;
+
+    @Autowired
+    private MemberBulkUpdater memberBulkUpdater;
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+        statistics().clear();
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> {
+            entityManager.createQuery("delete from Member").executeUpdate();
+            entityManager.createQuery("delete from Team").executeUpdate();
+            entityManager.createQuery("delete from Product").executeUpdate();
+            return null;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void 다른_트랜잭션에서_Team_과_Product_를_조회하면_SQL_없이_2차_캐시에서_조회해야한다() {
+        //Given
+        Team team = Team.builder().name("teamA").build();
+        Product product = Product.builder().name("productA").build();
+        transactionTemplate.execute(status -> {
+            entityManager.persist(team);
+            entityManager.persist(product);
+            return null;
+        });
+
+        //When
+        int executedStatementCount = transactionTemplate.execute(status -> {
+            SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+            entityManager.find(Team.class, team.getId());
+            entityManager.find(Product.class, product.getId());
+            return counter.getExecutedStatementCount();
+        });
+
+        //Then
+        assertThat(executedStatementCount).isZero();
+        assertThat(statistics().getDomainDataRegionStatistics(Team.CACHE_REGION).getHitCount()).isOne();
+        assertThat(statistics().getDomainDataRegionStatistics(Product.CACHE_REGION).getHitCount()).isOne();
+    }
+
+    @Test
+    @Description("컬렉션 캐시는 멤버의 식별자만 저장하기 때문에 Member 엔티티도 캐시되어야 멤버 수만큼 SQL 이 실행되지 않는다.")
+    public void Team_members_는_컬렉션_캐시에서_조회해야한다() {
+        //Given
+        Long teamId = saveTeamWithMembers("teamA", 10);
+        transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().size());
+
+        //When
+        int executedStatementCount = transactionTemplate.execute(status -> {
+            SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+            Team team = entityManager.find(Team.class, teamId);
+            assertThat(team.getMembers()).hasSize(10);
+            return counter.getExecutedStatementCount();
+        });
+
+        //Then
+        assertThat(executedStatementCount).isZero();
+        assertThat(statistics().getDomainDataRegionStatistics(Team.MEMBERS_CACHE_REGION).getHitCount()).isOne();
+    }
+
+    private Long saveTeamWithMembers(String teamName, int memberCount) {
+        return transactionTemplate.execute(status -> {
+            Team team = Team.builder().name(teamName).build();
+            entityManager.persist(team);
+            IntStream.range(0, memberCount)
+                    .mapToObj(i -> Member.builder().name("member" + i).age(i).build())
+                    .forEach(member -> {
+                        member.joinTeam(team);
+                        entityManager.persist(member);
+                    });
+            return team.getId();
+        });
+    }
+
+    @Test
+    @Description("2차 캐시에 있는 멤버는 꺼내고 캐시에 없는 멤버만 IN 절로 조회해야 한다.")
+    public void 식별자_목록으로_조회하면_2차_캐시에_없는_멤버만_SQL_로_조회해야한다() {
+        //Given
+        Long teamId = saveTeamWithMembers("teamA", 10);
+        List<Long> memberIds = transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().stream()
+                .map(Member::getId)
+                .sorted()
+                .collect(toList()));
+        entityManagerFactory.getCache().evict(Member.class, memberIds.get(0));
+
+        //When
+        int executedStatementCount = transactionTemplate.execute(status -> {
+            SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+            List<Member> members = memberQueryService.loadMembersByIds(memberIds);
+            assertThat(members).extracting(Member::getId).containsExactlyElementsOf(memberIds);
+            return counter.getExecutedStatementCount();
+        });
+
+        //Then
+        assertThat(executedStatementCount).isOne();
+    }
+
+    @Test
+    @Description("Member.team 이 변경되면 inverse 쪽인 Team.members 컬렉션 캐시도 제거되어야 한다. (hibernate.cache.auto_evict_collection_cache)")
+    public void 새로운_멤버가_팀에_가입하면_컬렉션_캐시가_제거되어야한다() {
+        //Given
+        Long teamId = saveTeamWithMembers("teamA", 3);
+        transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().size());
+
+        //When
+        transactionTemplate.execute(status -> {
+            Member member = Member.builder().name("newMember").age(20).build();
+            member.joinTeam(entityManager.find(Team.class, teamId));
+            entityManager.persist(member);
+            return null;
+        });
+
+        //Then
+        int memberCount = transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().size());
+        assertThat(memberCount).isEqualTo(4);
+    }
+
+    @Test
+    public void 이름으로_팀을_조회하면_query_캐시를_사용해야한다() {
+        //Given
+        saveTeamWithMembers("teamA", 0);
+        transactionTemplate.execute(status -> teamQueryService.findByName("teamA"));
+
+        //When
+        int executedStatementCount = transactionTemplate.execute(status -> {
+            SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+            assertThat(teamQueryService.findByName("teamA")).isPresent();
+            return counter.getExecutedStatementCount();
+        });
+
+        //Then
+        assertThat(executedStatementCount).isZero();
+        assertThat(statistics().getQueryRegionStatistics(TeamQueryService.TEAM_BY_NAME_CACHE_REGION).getHitCount()).isOne();
+    }
+
+    @Test
+    @Description("Team 테이블이 변경되면 update timestamps 가 갱신되어 이전에 캐시된 query 결과를 사용하지 않아야 한다.")
+    public void 팀이_추가되면_query_캐시를_사용하지_않아야한다() {
+        //Given
+        transactionTemplate.execute(status -> teamQueryService.findByName("teamB"));
+
+        //When
+        saveTeamWithMembers("teamB", 0);
+
+        //Then
+        Optional<Team> team = transactionTemplate.execute(status -> teamQueryService.findByName("teamB"));
+        assertThat(team).isPresent();
+    }
+
+    @Test
+    @Description("벌크 연산은 캐시된 엔티티를 거치지 않기 때문에 Member, Team.members region 이 제거되어야 한다.")
+    public void 벌크_연산_후에는_캐시된_멤버와_팀_멤버_컬렉션이_제거되어야한다() {
+        //Given
+        Long teamId = saveTeamWithMembers("teamA", 3);
+        saveTeamWithMembers("teamB", 0);
+        Long memberId = transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().iterator().next().getId());
+        assertThat(entityManagerFactory.getCache().contains(Member.class, memberId)).isTrue();
+
+        //When
+        transactionTemplate.execute(status -> memberBulkUpdater.increaseAge(0, 1));
+        transactionTemplate.execute(status -> memberBulkUpdater.moveTeam("teamA", "teamB"));
+
+        //Then
+        assertThat(entityManagerFactory.getCache().contains(Member.class, memberId)).isFalse();
+        int memberCount = transactionTemplate.execute(status -> entityManager.find(Team.class, teamId).getMembers().size());
+        assertThat(memberCount).isZero();
+        int age = transactionTemplate.execute(status -> entityManager.find(Member.class, memberId).getAge());
+        assertThat(age).isOne();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void queries_endpoint_는_캐시_region_별_hit_miss_를_반환해야한다() {
+        //Given
+        Long teamId = saveTeamWithMembers("teamA", 0);
+        transactionTemplate.execute(status -> entityManager.find(Team.class, teamId));
+
+        //When
+        Map<String, Object> queries = queryStatisticsEndpoint.queries();
+
+        //Then
+        assertThat((long) queries.get("secondLevelCacheHitCount")).isOne();
+        CacheRegionStatisticsItem teamRegion = ((List<CacheRegionStatisticsItem>) queries.get("cacheRegions")).stream()
+                .filter(item -> item.getRegion().equals(Team.CACHE_REGION))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertThat(teamRegion.getHitCount()).isOne();
+        assertThat(teamRegion.getHitRatio()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,103 @@
+package me.jpa.usageref.common;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션의 JDBC 이벤트로 실행된 SQL 과 batch 의 수를 센다.
+ * <p>
+ * 실행된 SQL 의 내용은 JDBC 이벤트로 알 수 없기 때문에 STATEMENT_INSPECTOR_PROPERTY 로 등록한 StatementInspector 가
+ * 현재 thread 에 attachTo(..) 한 counter 에 기록한다.
+ * 이전 테스트의 counter 가 다음 테스트의 SQL 을 기록하지 않도록 close() 하거나 세션이 닫히면 thread 에서 분리한다.
+ *
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+public class SqlStatementCounter extends BaseSessionEventListener implements StatementInspector, AutoCloseable {
+    public static final String STATEMENT_INSPECTOR_PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector=me.jpa.usageref.common.SqlStatementCounter";
+
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<SqlStatementCounter> ATTACHED = new ThreadLocal<>();
+
+    private final List<String> statements = new ArrayList<>();
+    private int preparedStatementCount;
+    private int executedStatementCount;
+    private int executedBatchCount;
+
+    public static SqlStatementCounter attachTo(EntityManager entityManager) {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        entityManager.unwrap(Session.class).addEventListeners(counter);
+        ATTACHED.set(counter);
+        return counter;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter counter = ATTACHED.get();
+        if (counter != null) counter.statements.add(sql);
+        return sql;
+    }
+
+    @Override
+    public void end() {
+        close();
+    }
+
+    @Override
+    public void close() {
+        if (ATTACHED.get() == this) ATTACHED.remove();
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        preparedStatementCount++;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executedStatementCount++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executedBatchCount++;
+    }
+
+    public int getPreparedStatementCount() {
+        return preparedStatementCount;
+    }
+
+    public int getExecutedStatementCount() {
+        return executedStatementCount;
+    }
+
+    public int getExecutedBatchCount() {
+        return executedBatchCount;
+    }
+
+    public int getRoundTripCount() {
+        return executedStatementCount + executedBatchCount;
+    }
+
+    public List<String> getStatements() {
+        return new ArrayList<>(statements);
+    }
+
+    public String getSingleSelectClause() {
+        if (statements.size() != 1) throw new IllegalStateException("실행된 SQL 이 하나가 아닙니다. : " + statements);
+        String lowerCaseSql = statements.get(0).toLowerCase();
+        return lowerCaseSql.substring(lowerCaseSql.indexOf("select") + "select".length(), lowerCaseSql.indexOf(" from "));
+    }
+
+    public void reset() {
+        statements.clear();
+        preparedStatementCount = 0;
+        executedStatementCount = 0;
+        executedBatchCount = 0;
+    }
+}
@@ -123,4 +123,25 @@ public class MemberTest {
         //When Then
         member.changeName(null);
     }
+
+    @Test
+    public void 나이를_변경해야한다() {
+        //Given
+        Member member = createMember();
+
+        //When
+        member.changeAge(30);
+
+        //Then
+        assertThat(member.getAge()).isEqualTo(30);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 나이_변경시_나이가_음수이면_예외가_발생해야한다() {
+        //Given
+        Member member = createMember();
+
+        //When Then
+        member.changeAge(-1);
+    }
 }
@@ -102,4 +102,45 @@ public class TeamTest {
         //When Then
         team.addMember(member);
     }
+
+    @Test
+    public void 멤버를_가입시키면_멤버의_팀도_함께_설정되어야한다() {
+        //Given
+        Team team = createTeam();
+        Member member = createMember();
+
+        //When
+        team.addMember(member);
+
+        //Then
+        assertThat(member.getTeam()).isSameAs(team);
+    }
+
+    @Test
+    public void 멤버가_팀에_가입하면_팀의_멤버_목록에도_추가되어야한다() {
+        //Given
+        Team team = createTeam();
+        Member member = createMember();
+
+        //When
+        member.joinTeam(team);
+
+        //Then
+        assertThat(team.getMembers().contains(member)).isTrue();
+    }
+
+    @Test
+    public void 식별자가_없는_멤버들도_각각_팀에_가입되어야한다() {
+        //Given
+        Team team = createTeam();
+        Member memberA = createMember(null, 10, "memberA");
+        Member memberB = createMember(null, 20, "memberB");
+
+        //When
+        team.addMember(memberA);
+        team.addMember(memberB);
+
+        //Then
+        assertThat(team.getMembers().size()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,120 @@
+package me.jpa.usageref.jpa.association;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Description({
+        "양방향 연관관계에서는 외래 키를 관리하는 쪽이 연관관계의 주인이다.",
+        "Member.team 이 member.team_id 를 관리하고 Team.members 는 mappedBy 로 읽기 전용이기 때문에 별도의 join table 이 생기지 않는다."
+})
+public class TeamMemberAssociationTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    public void Team_members_는_연관관계의_주인이_아니어야한다() {
+        //Given
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+
+        //When
+        boolean inverse = sessionFactory.getMetamodel()
+                .collectionPersister(Team.class.getName() + ".members")
+                .isInverse();
+
+        //Then
+        assertThat(inverse).isTrue();
+    }
+
+    @Test
+    @Description("팀 가입은 member 테이블의 INSERT 만으로 저장되어야 하며 join table 에 대한 추가 INSERT 가 없어야 한다.")
+    public void 팀_가입시_member_INSERT_만_실행되어야한다() {
+        //Given
+        int memberCount = 10;
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        entityManager.flush();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        IntStream.range(0, memberCount)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i).build())
+                .forEach(member -> {
+                    team.addMember(member);
+                    entityManager.persist(member);
+                });
+        entityManager.flush();
+
+        //Then
+        assertThat(counter.getExecutedBatchCount()).isOne();
+    }
+
+    @Test
+    public void 저장된_팀의_멤버는_mappedBy_로_조회되어야한다() {
+        //Given
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        IntStream.range(0, 3)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i).build())
+                .forEach(member -> {
+                    member.joinTeam(team);
+                    entityManager.persist(member);
+                });
+        entityManager.flush();
+        entityManager.clear();
+
+        //When
+        Team selectedTeam = entityManager.find(Team.class, team.getId());
+
+        //Then
+        assertThat(selectedTeam.getMembers().size()).isEqualTo(3);
+        selectedTeam.getMembers().forEach(member -> assertThat(member.getTeam()).isSameAs(selectedTeam));
+    }
+
+    @Test
+    @Description({
+            "조회한 팀의 members 는 HashSet 기반의 PersistentSet 이고 Member 는 식별자로 동등성을 비교한다.",
+            "식별자가 없는 멤버는 INSERT 된 후에 추가되므로 식별자가 없는 멤버끼리 같은 원소로 합쳐지지 않아야 한다."
+    })
+    public void 조회한_팀에_식별자가_없는_멤버들을_가입시키면_각각_추가되어야한다() {
+        //Given
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        entityManager.flush();
+        entityManager.clear();
+        Team selectedTeam = entityManager.find(Team.class, team.getId());
+        assertThat(selectedTeam.getMembers()).isEmpty();
+        Member memberA = Member.builder().name("memberA").age(10).build();
+        Member memberB = Member.builder().name("memberB").age(20).build();
+
+        //When
+        selectedTeam.addMember(memberA);
+        selectedTeam.addMember(memberB);
+        entityManager.persist(memberA);
+        entityManager.persist(memberB);
+        entityManager.flush();
+
+        //Then
+        assertThat(selectedTeam.getMembers()).isInstanceOf(PersistentCollection.class);
+        assertThat(selectedTeam.getMembers()).hasSize(2).contains(memberA, memberB);
+    }
+}
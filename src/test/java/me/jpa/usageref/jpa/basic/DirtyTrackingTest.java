@@ -0,0 +1,74 @@
+package me.jpa.usageref.jpa.basic;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Description({
+        "bytecode enhancement 를 적용하지 않은 엔티티는 flush 시 영속성 컨텍스트의 모든 엔티티를 스냅샷과 비교해서 변경을 찾는다.",
+        "in-line dirty tracking 을 적용하면 엔티티가 변경된 필드를 직접 기록하기 때문에 변경되지 않은 엔티티는 비교하지 않는다.",
+        "gradle 빌드에서 -PhibernateEnhance=false 로 enhancement 를 끄면 enhancement 를 확인하는 테스트는 실행하지 않는다."
+})
+public class DirtyTrackingTest {
+    private static final int MEMBER_COUNT = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    public void 변경한_멤버만_UPDATE_되어야한다() {
+        //Given
+        List<Member> members = saveAndLoadMembers();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        members.get(0).changeAge(members.get(0).getAge() + 1);
+        entityManager.flush();
+
+        //Then
+        assertThat(counter.getRoundTripCount()).isOne();
+    }
+
+    @Test
+    public void enhancement_를_적용한_엔티티는_변경한_필드를_기록해야한다() {
+        //Given
+        assumeTrue(SelfDirtinessTracker.class.isAssignableFrom(Member.class));
+        List<Member> members = saveAndLoadMembers();
+
+        //When
+        members.get(0).changeAge(members.get(0).getAge() + 1);
+
+        //Then
+        assertThat(((SelfDirtinessTracker) members.get(0)).$$_hibernate_getDirtyAttributes()).containsExactly("age");
+        members.subList(1, MEMBER_COUNT)
+                .forEach(member -> assertThat(((SelfDirtinessTracker) member).$$_hibernate_hasDirtyAttributes()).isFalse());
+    }
+
+    private List<Member> saveAndLoadMembers() {
+        IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i).build())
+                .forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.createQuery("select m from Member m order by m.id", Member.class).getResultList();
+    }
+}
@@ -0,0 +1,66 @@
+package me.jpa.usageref.jpa.batch;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Description({
+        "IDENTITY 전략은 persist() 시점에 INSERT 를 즉시 실행해야 식별자를 알 수 있기 때문에 JDBC batch insert 를 사용할 수 없다.",
+        "SEQUENCE(pooled-lo) 전략은 increment_size 만큼의 식별자를 미리 할당받기 때문에 INSERT 를 flush 시점까지 미룰 수 있고",
+        "hibernate.jdbc.batch_size 단위로 묶어서 실행할 수 있다."
+})
+public class BatchInsertTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Description({
+            "10,000 명의 멤버를 저장할 때 INSERT 는 batch_size 단위의 batch 로 실행되어야 하며",
+            "sequence 조회는 increment_size 마다 한 번만 실행되어야 한다."
+    })
+    public void 만명의_멤버를_저장할_경우_INSERT_는_batch_size_단위로_묶여서_실행되어야한다() {
+        //Given
+        int memberCount = 10_000;
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        int batchSize = sessionFactory.getSessionFactoryOptions().getJdbcBatchSize();
+        int incrementSize = ((SequenceStyleGenerator) sessionFactory.getIdentifierGenerator(Member.class.getName()))
+                .getOptimizer()
+                .getIncrementSize();
+
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        IntStream.range(0, memberCount)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i % 100).build())
+                .forEach(entityManager::persist);
+        entityManager.flush();
+
+        //Then
+        assertThat(batchSize).isGreaterThan(1);
+        assertThat(incrementSize).isGreaterThan(1);
+        assertThat(counter.getExecutedBatchCount()).isEqualTo(ceilDiv(memberCount, batchSize));
+        assertThat(counter.getExecutedStatementCount()).isLessThanOrEqualTo(ceilDiv(memberCount, incrementSize) + 1);
+    }
+
+    private int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
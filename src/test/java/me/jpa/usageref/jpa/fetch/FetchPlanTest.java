@@ -0,0 +1,163 @@
+package me.jpa.usageref.jpa.fetch;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.service.MemberQueryService;
+import me.jpa.usageref.service.OrdersQueryService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnitUtil;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({MemberQueryService.class, OrdersQueryService.class})
+@Description({
+        "@ManyToOne, @OneToOne 의 기본 fetch 전략은 EAGER 이기 때문에 JPQL 로 엔티티 목록을 조회하면 연관된 엔티티를 조회하는 SQL 이 N 번 더 실행된다. (N+1 문제)",
+        "연관관계는 모두 LAZY 로 설정하고 필요한 데이터는 fetch join 이나 EntityGraph 로 명시적으로 함께 조회한다."
+})
+public class FetchPlanTest {
+    private static final int ORDER_COUNT = 1_000;
+    private static final int TEAM_COUNT = 10;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Autowired
+    private OrdersQueryService ordersQueryService;
+
+    @Test
+    @Description("연관관계가 LAZY 이기 때문에 멤버 목록만 조회할 경우 팀을 조회하는 SQL 이 실행되지 않아야 한다.")
+    public void 멤버_목록_조회시_팀은_조회하지_않아야한다() {
+        //Given
+        saveOrders();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Member> members = memberQueryService.findAll();
+
+        //Then
+        assertThat(members.size()).isEqualTo(ORDER_COUNT);
+        assertThat(counter.getExecutedStatementCount()).isOne();
+        members.forEach(member -> assertThat(persistenceUnitUtil().isLoaded(member, "team")).isFalse());
+    }
+
+    private void saveOrders() {
+        List<Team> teams = IntStream.range(0, TEAM_COUNT)
+                .mapToObj(i -> Team.builder().name("team" + i).build())
+                .collect(toList());
+        teams.forEach(entityManager::persist);
+
+        IntStream.range(0, ORDER_COUNT).forEach(i -> {
+            Member member = Member.builder().name("member" + i).age(i % 100).build();
+            member.joinTeam(teams.get(i % TEAM_COUNT));
+            Product product = Product.builder().name("product" + i).build();
+            entityManager.persist(member);
+            entityManager.persist(product);
+            entityManager.persist(Orders.builder().member(member).product(product).build());
+        });
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private PersistenceUnitUtil persistenceUnitUtil() {
+        return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+
+    @Test
+    @Description("fetch join 을 사용하면 멤버와 팀을 한 번의 SQL 로 조회해야 한다.")
+    public void fetch_join_으로_멤버와_팀을_함께_조회해야한다() {
+        //Given
+        saveOrders();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Member> members = memberQueryService.findAllWithTeam();
+        members.forEach(member -> member.getTeam().getName());
+
+        //Then
+        assertThat(counter.getExecutedStatementCount()).isOne();
+    }
+
+    @Test
+    @Description({
+            "[ Before ] 주문 목록을 조회한 뒤 멤버, 팀, 상품에 접근하면 연관된 엔티티마다 SQL 이 추가로 실행된다.",
+            "[ After ] EntityGraph 를 사용하면 주문 1,000 건과 멤버, 팀, 상품을 한 번의 SQL 로 조회해야 한다."
+    })
+    public void 주문_1000건_조회시_EntityGraph_를_사용하면_SQL_이_한번만_실행되어야한다() {
+        //Given
+        saveOrders();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        ordersQueryService.findAll().forEach(this::touchAssociations);
+        int statementsWithoutFetchPlan = counter.getExecutedStatementCount();
+
+        entityManager.clear();
+        counter.reset();
+
+        ordersQueryService.findAllWithMemberTeamAndProduct().forEach(this::touchAssociations);
+        int statementsWithFetchPlan = counter.getExecutedStatementCount();
+
+        //Then
+        assertThat(statementsWithoutFetchPlan).isGreaterThan(ORDER_COUNT);
+        assertThat(statementsWithFetchPlan).isOne();
+    }
+
+    private void touchAssociations(Orders orders) {
+        orders.getMember().getTeam().getName();
+        orders.getProduct().getName();
+    }
+
+    @Test
+    public void 식별자로_주문과_멤버_상품을_함께_조회해야한다() {
+        //Given
+        saveOrders();
+        Long orderId = ordersQueryService.findAll().get(0).getId();
+        entityManager.clear();
+
+        //When
+        Orders orders = ordersQueryService.findByIdWithMemberAndProduct(orderId).orElseThrow(IllegalStateException::new);
+
+        //Then
+        assertThat(persistenceUnitUtil().isLoaded(orders, "member")).isTrue();
+        assertThat(persistenceUnitUtil().isLoaded(orders, "product")).isTrue();
+        assertThat(persistenceUnitUtil().isLoaded(orders.getMember(), "team")).isFalse();
+    }
+
+    @Test
+    public void 식별자로_멤버와_팀을_함께_조회해야한다() {
+        //Given
+        saveOrders();
+        Long memberId = memberQueryService.findAll().get(0).getId();
+        entityManager.clear();
+
+        //When
+        Member member = memberQueryService.findByIdWithTeam(memberId).orElseThrow(IllegalStateException::new);
+
+        //Then
+        assertThat(persistenceUnitUtil().isLoaded(member, "team")).isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package me.jpa.usageref.jpa.fetch;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.service.MemberQueryService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = {SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY, "usageref.multi-load.batch-size=4"})
+@Import(MemberQueryService.class)
+@Description({
+        "식별자마다 find() 를 호출하면 식별자 수만큼 SELECT 가 실행된다.",
+        "여러 식별자를 IN 절로 묶어서 조회하고, IN 절의 파라미터 수를 2의 거듭제곱으로 맞추면 목록 크기가 달라도 같은 SQL 을 재사용한다."
+})
+public class MemberMultiLoadTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Test
+    @Description("입력 순서를 유지하고 존재하지 않는 식별자의 위치에는 null, 중복된 식별자에는 같은 멤버를 반환해야 한다.")
+    public void 입력한_식별자_순서대로_멤버를_반환해야한다() {
+        //Given
+        List<Long> ids = saveMembers(3);
+        List<Long> requestedIds = Arrays.asList(ids.get(2), -1L, ids.get(0), ids.get(2), ids.get(1));
+
+        //When
+        List<Member> members = memberQueryService.loadMembersByIds(requestedIds);
+
+        //Then
+        assertThat(members).hasSize(5);
+        assertThat(members.get(0).getId()).isEqualTo(ids.get(2));
+        assertThat(members.get(1)).isNull();
+        assertThat(members.get(2).getId()).isEqualTo(ids.get(0));
+        assertThat(members.get(3)).isSameAs(members.get(0));
+        assertThat(members.get(4).getId()).isEqualTo(ids.get(1));
+    }
+
+    private List<Long> saveMembers(int count) {
+        List<Long> ids = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Member member = Member.builder().name("member" + i).age(i).build();
+                    entityManager.persist(member);
+                    return member.getId();
+                })
+                .collect(toList());
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    @Test
+    @Description("batch size 가 4 이면 7 명은 두 번에 나누어 조회하고, 3 개 남은 식별자는 4 개로 padding 해야 한다.")
+    public void batch_size_만큼_나누어_조회하고_IN_절을_padding_해야한다() {
+        //Given
+        List<Long> ids = saveMembers(7);
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Member> members = memberQueryService.loadMembersByIds(ids);
+
+        //Then
+        assertThat(members).extracting(Member::getId).containsExactlyElementsOf(ids);
+        List<String> statements = counter.getStatements();
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).isEqualTo(statements.get(1));
+        assertThat(statements.get(0).chars().filter(c -> c == '?').count()).isEqualTo(4);
+    }
+
+    @Test
+    public void 영속성_컨텍스트에_있는_멤버는_다시_조회하지_않아야한다() {
+        //Given
+        List<Long> ids = saveMembers(4);
+        Member managed = entityManager.find(Member.class, ids.get(0));
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Member> members = memberQueryService.loadMembersByIds(ids);
+
+        //Then
+        assertThat(members.get(0)).isSameAs(managed);
+        List<String> statements = counter.getStatements();
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).chars().filter(c -> c == '?').count()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,84 @@
+package me.jpa.usageref.jpa.fetch;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import org.hibernate.Hibernate;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Description({
+        "팀을 하나씩 조회한 뒤 팀마다 멤버 컬렉션에 접근하면 컬렉션을 조회하는 SQL 이 팀 수 만큼 실행된다. (N+1 문제)",
+        "Team.members 에 @BatchSize 를 지정하면 초기화되지 않은 멤버 컬렉션을 batch size 개씩 IN 조건으로 묶어서 조회한다.",
+        "query 로 조회한 팀의 멤버 컬렉션은 subselect 로 조회되기 때문에 (TeamMembersSubselectFetchTest) 팀은 식별자로 하나씩 조회한다."
+})
+public class TeamMembersBatchFetchTest {
+    private static final int TEAM_COUNT = 1_000;
+    private static final int MEMBERS_PER_TEAM = 2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private List<Long> teamIds;
+
+    @Before
+    public void setUp() {
+        teamIds = IntStream.range(0, TEAM_COUNT)
+                .mapToObj(i -> {
+                    Team team = Team.builder().name("team" + i).build();
+                    entityManager.persist(team);
+                    IntStream.range(0, MEMBERS_PER_TEAM)
+                            .mapToObj(j -> Member.builder().name("member" + i + "-" + j).age(j).build())
+                            .forEach(member -> {
+                                team.addMember(member);
+                                entityManager.persist(member);
+                            });
+                    return team.getId();
+                })
+                .collect(toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @Description("식별자로 조회한 팀 1,000 개의 멤버에 접근하면 멤버 컬렉션은 팀 수 / batch size 번만 조회되어야 한다.")
+    public void 식별자로_조회한_팀_1000개의_멤버_조회시_SQL_은_팀수_나누기_batch_size_만큼_실행되어야한다() {
+        //Given
+        List<Team> teams = teamIds.stream()
+                .map(id -> entityManager.find(Team.class, id))
+                .collect(toList());
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        int memberCount = teams.stream()
+                .mapToInt(team -> team.getMembers().size())
+                .sum();
+
+        //Then
+        assertThat(teams).allSatisfy(team -> assertThat(Hibernate.isInitialized(team.getMembers())).isTrue());
+        assertThat(memberCount).isEqualTo(TEAM_COUNT * MEMBERS_PER_TEAM);
+        assertThat(counter.getExecutedStatementCount()).isEqualTo(ceilDiv(TEAM_COUNT, Team.MEMBERS_BATCH_SIZE));
+    }
+
+    private int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,98 @@
+package me.jpa.usageref.jpa.fetch;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.service.TeamQueryService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(TeamQueryService.class)
+@Description("subselect 로 조회하면 처음 초기화하는 멤버 컬렉션과 함께 팀 목록을 조회한 query 로 읽은 모든 팀의 멤버 컬렉션을 한 번에 초기화한다.")
+public class TeamMembersSubselectFetchTest {
+    private static final int TEAM_COUNT = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TeamQueryService teamQueryService;
+
+    @Test
+    public void Team_members_는_subselect_로_조회되어야한다() {
+        //When
+        boolean subselectLoadable = ((AbstractCollectionPersister) entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .collectionPersister(Team.class.getName() + ".members"))
+                .isSubselectLoadable();
+
+        //Then
+        assertThat(subselectLoadable).isTrue();
+    }
+
+    @Test
+    @Description("팀 1,000 개와 멤버를 팀 목록 1 번, 멤버 1 번의 SQL 로 조회해야 한다.")
+    public void 팀_1000개와_멤버를_SQL_2번으로_조회해야한다() {
+        //Given
+        saveTeams();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Team> teams = teamQueryService.findAllWithMembers();
+
+        //Then
+        assertThat(teams).hasSize(TEAM_COUNT);
+        teams.forEach(team -> assertThat(team.getMembers()).hasSize(1));
+        assertThat(counter.getExecutedStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Description("이름으로 조회한 팀 250 개의 멤버도 팀 목록 1 번, 멤버 1 번의 SQL 로 조회해야 한다.")
+    public void 이름으로_팀과_멤버를_SQL_2번으로_조회해야한다() {
+        //Given
+        saveTeams();
+        List<String> names = IntStream.range(0, 250).mapToObj(i -> "team" + i).collect(toList());
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<Team> teams = teamQueryService.findByNamesWithMembers(names);
+
+        //Then
+        assertThat(teams).extracting(Team::getName).containsExactlyInAnyOrderElementsOf(names);
+        teams.forEach(team -> assertThat(team.getMembers()).hasSize(1));
+        assertThat(counter.getExecutedStatementCount()).isEqualTo(2);
+    }
+
+    private void saveTeams() {
+        IntStream.range(0, TEAM_COUNT).forEach(i -> {
+            Team team = Team.builder().name("team" + i).build();
+            entityManager.persist(team);
+            Member member = Member.builder().name("member" + i).age(i % 100).build();
+            team.addMember(member);
+            entityManager.persist(member);
+        });
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,123 @@
+package me.jpa.usageref.jpa.index;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import org.hibernate.Session;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY)
+@Description({
+        "schema 는 ddl-auto 대신 Flyway migration(db/migration) 으로 생성하고, Hibernate 는 엔티티와 schema 가 일치하는지 검증(validate)만 한다.",
+        "JPQL 이 생성한 SQL 을 H2 의 EXPLAIN 으로 실행해서 full scan 대신 의도한 index 를 사용하는지 확인한다."
+})
+public class IndexUsageTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    public void 이름으로_멤버를_조회하면_name_index_를_사용해야한다() {
+        //Given
+        Query query = entityManager.createQuery("select m from Member m where m.name = :name")
+                .setParameter("name", "minhyuk");
+
+        //When
+        String plan = explain(query, "minhyuk");
+
+        //Then
+        assertThat(plan).contains("IDX_MEMBER_NAME");
+    }
+
+    private String explain(Query query, Object... parameters) {
+        List<String> statements;
+        try (SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager)) {
+            query.getResultList();
+            statements = counter.getStatements();
+        }
+        assertThat(statements).hasSize(1);
+
+        String plan = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + statements.get(0))) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+        return plan.toUpperCase();
+    }
+
+    @Test
+    @Description("나이로 범위 조회 후 (age, id) 로 정렬하면 정렬 없이 index 순서대로 읽어야 한다.")
+    public void 나이_범위로_멤버를_조회하면_age_id_index_를_사용해야한다() {
+        //Given
+        Query query = entityManager.createQuery("select m from Member m where m.age >= :age order by m.age, m.id")
+                .setParameter("age", 20);
+
+        //When
+        String plan = explain(query, 20);
+
+        //Then
+        assertThat(plan).contains("IDX_MEMBER_AGE_ID");
+        assertThat(plan).contains("INDEX SORTED");
+    }
+
+    @Test
+    public void 팀으로_멤버를_조회하면_team_id_index_를_사용해야한다() {
+        //Given
+        Query query = entityManager.createQuery("select m from Member m where m.team.id = :teamId")
+                .setParameter("teamId", 1L);
+
+        //When
+        String plan = explain(query, 1L);
+
+        //Then
+        assertThat(plan).contains("IDX_MEMBER_TEAM_ID");
+    }
+
+    @Test
+    public void 멤버의_주문을_조회하면_member_id_index_를_사용해야한다() {
+        //Given
+        Query query = entityManager.createQuery("select o from Orders o join o.member m where m.name = :name")
+                .setParameter("name", "minhyuk");
+
+        //When
+        String plan = explain(query, "minhyuk");
+
+        //Then
+        assertThat(plan).contains("IDX_MEMBER_NAME");
+        assertThat(plan).contains("IDX_ORDERS_MEMBER_ID");
+    }
+
+    @Test
+    public void 상품의_주문을_조회하면_product_id_index_를_사용해야한다() {
+        //Given
+        Query query = entityManager.createQuery("select o from Orders o where o.product.id = :productId")
+                .setParameter("productId", 1L);
+
+        //When
+        String plan = explain(query, 1L);
+
+        //Then
+        assertThat(plan).contains("IDX_ORDERS_PRODUCT_ID");
+    }
+}
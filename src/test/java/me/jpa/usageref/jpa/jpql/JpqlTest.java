@@ -502,12 +502,10 @@ public class JpqlTest {
                     if (i % 2 == 0) {
                         Member teamAMember = createMember("member" + i, i);
                         teamAMember.joinTeam(teamA);
-                        teamA.addMember(teamAMember);
                         return teamAMember;
                     }
                     Member teamBMember = createMember("member" + i, i);
                     teamBMember.joinTeam(teamB);
-                    teamB.addMember(teamBMember);
                     return teamBMember;
                 })
                 .forEach(entityManager::persist);
@@ -0,0 +1,171 @@
+package me.jpa.usageref.jpa.readonly;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.OrdersItem;
+import me.jpa.usageref.dto.TeamItem;
+import me.jpa.usageref.service.MemberQueryService;
+import me.jpa.usageref.service.OrdersQueryService;
+import me.jpa.usageref.service.TeamQueryService;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({MemberQueryService.class, TeamQueryService.class, OrdersQueryService.class})
+@Description({
+        "영속 상태의 엔티티는 변경 감지를 위해 조회 시점의 값(loaded state) 을 스냅샷으로 보관한다.",
+        "read-only 로 조회한 엔티티는 스냅샷을 보관하지 않고 flush 시 변경 감지에서 제외되며, DTO 는 영속성 컨텍스트에 저장되지 않는다."
+})
+public class ReadOnlyQueryTest {
+    private static final int MEMBER_COUNT = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Autowired
+    private TeamQueryService teamQueryService;
+
+    @Autowired
+    private OrdersQueryService ordersQueryService;
+
+    @Test
+    public void 영속_엔티티는_스냅샷을_보관하고_read_only_엔티티는_보관하지_않아야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        Member managed = entityManager.createQuery("select m from Member m", Member.class).getResultList().get(0);
+        Object[] managedSnapshot = persistenceContext().getEntry(managed).getLoadedState();
+        entityManager.clear();
+        Member readOnly = memberQueryService.findAll().get(0);
+
+        //Then
+        assertThat(managedSnapshot).isNotNull();
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(readOnly)).isTrue();
+        assertThat(persistenceContext().getEntry(readOnly).getLoadedState()).isNull();
+    }
+
+    @Test
+    @Description("쓰기 트랜잭션에서 호출해도 read-only 로 조회한 엔티티는 변경 감지 대상이 아니므로 UPDATE 가 실행되지 않아야 한다.")
+    public void read_only_엔티티는_변경해도_UPDATE_되지_않아야한다() {
+        //Given
+        saveOrders();
+        List<Member> members = memberQueryService.findAllWithTeam();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        members.forEach(member -> member.changeAge(member.getAge() + 1));
+        entityManager.flush();
+
+        //Then
+        assertThat(counter.getExecutedStatementCount()).isZero();
+        members.forEach(member -> assertThat(entityManager.unwrap(Session.class).isReadOnly(member.getTeam())).isTrue());
+    }
+
+    @Test
+    public void 주문과_fetch_한_연관_엔티티는_read_only_로_조회되어야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        List<Orders> orders = ordersQueryService.findAllWithMemberTeamAndProduct();
+
+        //Then
+        Session session = entityManager.unwrap(Session.class);
+        assertThat(orders).hasSize(MEMBER_COUNT);
+        orders.forEach(order -> {
+            assertThat(session.isReadOnly(order)).isTrue();
+            assertThat(session.isReadOnly(order.getMember())).isTrue();
+            assertThat(session.isReadOnly(order.getProduct())).isTrue();
+        });
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Description("Spring 의 readOnly 트랜잭션은 Session 의 flush mode 를 MANUAL 로, 기본 조회 모드를 read-only 로 변경한다.")
+    public void readOnly_트랜잭션은_flush_하지_않고_read_only_로_조회해야한다() {
+        //Given
+        TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        //When
+        FlushMode flushMode = readOnlyTransactionTemplate.execute(status -> entityManager.unwrap(Session.class).getHibernateFlushMode());
+        boolean defaultReadOnly = readOnlyTransactionTemplate.execute(status -> entityManager.unwrap(Session.class).isDefaultReadOnly());
+
+        //Then
+        assertThat(flushMode).isEqualTo(FlushMode.MANUAL);
+        assertThat(defaultReadOnly).isTrue();
+    }
+
+    @Test
+    public void DTO_로_조회하면_영속성_컨텍스트에_저장되지_않아야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        List<MemberItem> members = memberQueryService.findAllItems();
+        List<TeamItem> teams = teamQueryService.findAllItems();
+        List<OrdersItem> orders = ordersQueryService.findAllItems();
+
+        //Then
+        assertThat(members).hasSize(MEMBER_COUNT);
+        assertThat(teams).extracting(TeamItem::getName).containsExactly("teamA");
+        assertThat(orders).hasSize(MEMBER_COUNT);
+        assertThat(orders.get(0).getMemberName()).isEqualTo("member0");
+        assertThat(orders.get(0).getProductName()).isEqualTo("product0");
+        assertThat(persistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+
+    private org.hibernate.engine.spi.PersistenceContext persistenceContext() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContext();
+    }
+
+    private void saveOrders() {
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        IntStream.range(0, MEMBER_COUNT).forEach(i -> {
+            Member member = Member.builder().name("member" + i).age(i).build();
+            team.addMember(member);
+            Product product = Product.builder().name("product" + i).build();
+            entityManager.persist(member);
+            entityManager.persist(product);
+            entityManager.persist(Orders.builder().member(member).product(product).build());
+        });
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,73 @@
+package me.jpa.usageref.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.jpa.usageref.common.Description;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:connection-pool;DB_CLOSE_DELAY=-1",
+        "spring.jmx.enabled=false"
+})
+@ActiveProfiles("production")
+@Description({
+        "production profile 에서는 Hikari 커넥션 풀의 크기를 고정하고 커넥션 누수 감지를 켠다.",
+        "커넥션 풀의 active, idle, pending 커넥션 수와 커넥션을 얻기까지 기다린 시간이 Micrometer 에 기록되어야 한다."
+})
+public class ConnectionPoolMetricsTest {
+    private static final String POOL_TAG = "pool";
+    private static final String POOL_NAME = "usageref-pool";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void production_profile_의_커넥션_풀_설정이_적용되어야한다() {
+        //When
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+
+        //Then
+        assertThat(hikariDataSource.getPoolName()).isEqualTo(POOL_NAME);
+        assertThat(hikariDataSource.getMinimumIdle()).isEqualTo(hikariDataSource.getMaximumPoolSize());
+        assertThat(hikariDataSource.getLeakDetectionThreshold()).isPositive();
+        assertThat(hikariDataSource.getDataSourceProperties()).containsKeys("cachePrepStmts", "prepStmtCacheSize", "QUERY_CACHE_SIZE");
+    }
+
+    @Test
+    public void 커넥션_풀의_상태와_커넥션을_얻는_시간이_기록되어야한다() throws Exception {
+        //Given
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag(POOL_TAG, POOL_NAME).timer();
+        long acquireCountBefore = acquire.count();
+
+        //When
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+            assertThat(meterRegistry.get("hikaricp.connections.active").tag(POOL_TAG, POOL_NAME).gauge().value()).isEqualTo(1);
+        }
+
+        //Then
+        assertThat(acquire.count()).isGreaterThan(acquireCountBefore);
+        assertThat(acquire.takeSnapshot().percentileValues()).hasSize(3);
+        assertThat(meterRegistry.find("hikaricp.connections.idle").tag(POOL_TAG, POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag(POOL_TAG, POOL_NAME).gauge()).isNotNull();
+    }
+}
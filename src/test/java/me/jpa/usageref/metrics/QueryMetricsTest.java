@@ -0,0 +1,113 @@
+package me.jpa.usageref.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.QueryStatisticsItem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({QueryMetricsConfiguration.class, QueryMetricsTest.MeterRegistryConfiguration.class})
+@Description({
+        "hibernate.generate_statistics 를 활성화하면 Hibernate 가 JPQL 별 실행 횟수, 평균/최대 실행 시간, 조회 row 수를 집계한다.",
+        "Statistics 에서 넘어오는 query 실행 정보를 Micrometer Timer 로도 기록해서 p99 같은 분위수를 확인할 수 있다."
+})
+public class QueryMetricsTest {
+    private static final String JPQL = "select m from Member m where m.age >= :age";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryStatisticsEndpoint queryStatisticsEndpoint;
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    public void JPQL_실행시간과_조회_row_수가_Micrometer_에_기록되어야한다() {
+        //Given
+        saveMembers(10);
+
+        //When
+        IntStream.range(0, 3).forEach(i -> findMembersOlderThan(5));
+
+        //Then
+        Timer timer = meterRegistry.get(MicrometerStatisticsFactory.QUERY_EXECUTION_METRIC)
+                .tag(MicrometerStatisticsFactory.QUERY_TAG, JPQL)
+                .timer();
+        assertThat(timer.count()).isEqualTo(3);
+
+        double totalRows = meterRegistry.get(MicrometerStatisticsFactory.QUERY_ROWS_METRIC)
+                .tag(MicrometerStatisticsFactory.QUERY_TAG, JPQL)
+                .summary()
+                .totalAmount();
+        assertThat(totalRows).isEqualTo(15);
+    }
+
+    private void saveMembers(int count) {
+        IntStream.range(0, count)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i).build())
+                .forEach(entityManager::persist);
+    }
+
+    private List<Member> findMembersOlderThan(int age) {
+        return entityManager.createQuery(JPQL, Member.class)
+                .setParameter("age", age)
+                .getResultList();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void queries_endpoint_는_JPQL_별_통계를_반환해야한다() {
+        //Given
+        saveMembers(10);
+        entityManager.flush();
+        entityManager.clear();
+        findMembersOlderThan(0);
+
+        //When
+        Map<String, Object> queries = queryStatisticsEndpoint.queries();
+
+        //Then
+        assertThat((long) queries.get("entityLoadCount")).isGreaterThanOrEqualTo(10);
+        List<QueryStatisticsItem> items = (List<QueryStatisticsItem>) queries.get("queries");
+        QueryStatisticsItem item = items.stream()
+                .filter(queryStatisticsItem -> queryStatisticsItem.getQuery().equals(JPQL))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertThat(item.getExecutionCount()).isGreaterThanOrEqualTo(1);
+        assertThat(item.getRowCount()).isGreaterThanOrEqualTo(10);
+        assertThat(item.getP99Millis()).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,113 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberNameView;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY)
+@Description({
+        "엔티티를 조회하면 모든 컬럼을 SELECT 하고 Persistence Context 에 스냅샷까지 만든다.",
+        "목록 조회처럼 일부 컬럼만 필요한 경우 interface, class 기반 projection 으로 필요한 컬럼만 조회한다."
+})
+public class MemberRepositoryTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @Description("class 기반 projection 은 constructor expression 으로 id, name 컬럼만 조회해야 한다.")
+    public void MemberItem_으로_조회하면_id_와_name_만_조회해야한다() {
+        //Given
+        saveMembers();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<MemberItem> items = memberRepository.findItemsByAgeGreaterThanEqual(5);
+
+        //Then
+        assertThat(items).extracting(MemberItem::getName).containsExactly("member5", "member6", "member7", "member8", "member9");
+        assertOnlyIdAndNameSelected(counter);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    private void saveMembers() {
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        IntStream.range(0, 10)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i).address(new Address("seoul", "street" + i)).build())
+                .forEach(member -> {
+                    member.joinTeam(team);
+                    entityManager.persist(member);
+                });
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void assertOnlyIdAndNameSelected(SqlStatementCounter counter) {
+        String selectClause = counter.getSingleSelectClause();
+        assertThat(selectClause.split(",")).hasSize(2);
+        assertThat(selectClause).contains(".id", ".name");
+        assertThat(selectClause).doesNotContain("age", "city", "street", "team_id");
+    }
+
+    private int managedEntityCount() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities();
+    }
+
+    @Test
+    @Description("interface 기반 projection 은 interface 에 선언된 속성만 조회해야 한다.")
+    public void 팀_이름으로_조회하면_interface_projection_의_컬럼만_조회해야한다() {
+        //Given
+        saveMembers();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<MemberNameView> views = memberRepository.findByTeamNameOrderByIdAsc("teamA");
+
+        //Then
+        assertThat(views.stream().map(MemberNameView::getName).collect(toList())).hasSize(10).contains("member0", "member9");
+        assertOnlyIdAndNameSelected(counter);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    public void 식별자로_interface_projection_을_조회해야한다() {
+        //Given
+        saveMembers();
+        Long id = memberRepository.findItemsByAgeGreaterThanEqual(0).get(0).getId();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        MemberNameView view = memberRepository.findViewById(id).orElseThrow(IllegalStateException::new);
+
+        //Then
+        assertThat(view.getId()).isEqualTo(id);
+        assertThat(view.getName()).isEqualTo("member0");
+        assertOnlyIdAndNameSelected(counter);
+    }
+}
@@ -0,0 +1,59 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.dto.OrdersSummaryView;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY)
+public class OrdersRepositoryTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrdersRepository ordersRepository;
+
+    @Test
+    public void 주문_요약은_주문_id_멤버_이름_상품_이름만_한번의_SQL_로_조회해야한다() {
+        //Given
+        Member member = Member.builder().name("minhyuk").age(28).build();
+        entityManager.persist(member);
+        IntStream.range(0, 3).forEach(i -> {
+            Product product = Product.builder().name("product" + i).build();
+            entityManager.persist(product);
+            entityManager.persist(Orders.builder().member(member).product(product).build());
+        });
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<OrdersSummaryView> summaries = ordersRepository.findSummariesByMemberId(member.getId());
+
+        //Then
+        assertThat(summaries).extracting(OrdersSummaryView::getProductName).containsExactly("product0", "product1", "product2");
+        assertThat(summaries).extracting(OrdersSummaryView::getMemberName).containsOnly("minhyuk");
+
+        String selectClause = counter.getSingleSelectClause();
+        assertThat(selectClause.split(",")).hasSize(3);
+        assertThat(selectClause).doesNotContain("age", "member_id", "product_id");
+    }
+}
@@ -0,0 +1,48 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.dto.ProductItem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY)
+public class ProductRepositoryTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    public void 이름의_접두어로_ProductItem_을_조회해야한다() {
+        //Given
+        Stream.of("apple", "apricot", "banana")
+                .map(name -> Product.builder().name(name).build())
+                .forEach(productRepository::save);
+        productRepository.flush();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<ProductItem> items = productRepository.findItemsByNameStartingWith("ap");
+
+        //Then
+        assertThat(items).extracting(ProductItem::getName).containsExactly("apple", "apricot");
+        assertThat(counter.getSingleSelectClause().split(",")).hasSize(2);
+    }
+}
@@ -0,0 +1,61 @@
+package me.jpa.usageref.repository;
+
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.TeamMemberCountView;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = SqlStatementCounter.STATEMENT_INSPECTOR_PROPERTY)
+public class TeamRepositoryTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Test
+    public void 팀별_멤버_수는_팀_이름과_집계_결과만_조회해야한다() {
+        //Given
+        saveTeam("teamA", 3);
+        saveTeam("teamB", 0);
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<TeamMemberCountView> memberCounts = teamRepository.findMemberCounts();
+
+        //Then
+        assertThat(memberCounts).extracting(TeamMemberCountView::getName).containsExactly("teamA", "teamB");
+        assertThat(memberCounts).extracting(TeamMemberCountView::getMemberCount).containsExactly(3L, 0L);
+        assertThat(counter.getSingleSelectClause().split(",")).hasSize(2);
+    }
+
+    private void saveTeam(String name, int memberCount) {
+        Team team = Team.builder().name(name).build();
+        entityManager.persist(team);
+        IntStream.range(0, memberCount)
+                .mapToObj(i -> Member.builder().name(name + "-member" + i).age(i).build())
+                .forEach(member -> {
+                    member.joinTeam(team);
+                    entityManager.persist(member);
+                });
+    }
+}
@@ -0,0 +1,219 @@
+package me.jpa.usageref.routing;
+
+import me.jpa.usageref.async.AsyncMemberQueries;
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberItem;
+import org.flywaydb.core.Flyway;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "spring.jmx.enabled=false",
+        "usageref.routing.enabled=true",
+        "usageref.routing.replica-urls=" + ReplicaRoutingDataSourceTest.REPLICA_0_URL + "," + ReplicaRoutingDataSourceTest.REPLICA_1_URL,
+        "usageref.routing.selection=LEAST_BUSY",
+        "usageref.routing.read-your-writes-window-millis=" + ReplicaRoutingDataSourceTest.READ_YOUR_WRITES_WINDOW_MILLIS
+})
+@Description({
+        "읽기 전용 트랜잭션은 replica 에서, 쓰기 트랜잭션은 primary 에서 실행한다.",
+        "H2 in-memory DB 를 replica 로 사용하고 복제는 하지 않기 때문에 replica 에서는 primary 에 저장한 데이터가 보이지 않는다. (복제 지연)"
+})
+public class ReplicaRoutingDataSourceTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_0_URL = "jdbc:h2:mem:routing-replica-0;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_1_URL = "jdbc:h2:mem:routing-replica-1;DB_CLOSE_DELAY=-1";
+    static final long READ_YOUR_WRITES_WINDOW_MILLIS = 500;
+
+    private static final String PRIMARY = "ROUTING-PRIMARY";
+    private static final int REPLICA_COUNT = 2;
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private AsyncMemberQueries asyncMemberQueries;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    /**
+     * replica 는 복제로 스키마를 받는 대신 context 를 시작하기 전에 직접 migration 한다. (QueryPlanCacheWarmer 가 replica 에서 실행된다)
+     */
+    @BeforeClass
+    public static void migrateReplicas() {
+        Flyway.configure().dataSource(REPLICA_0_URL, "sa", "").load().migrate();
+        Flyway.configure().dataSource(REPLICA_1_URL, "sa", "").load().migrate();
+    }
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> entityManager.createQuery("delete from Member").executeUpdate());
+        replicaRoutingDataSource.unpin();
+    }
+
+    private String currentDatabase() {
+        return (String) entityManager.createNativeQuery("select database()").getSingleResult();
+    }
+
+    private String readOnlyDatabase() {
+        return readOnlyTransactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private long countMember(Long id) {
+        return readOnlyTransactionTemplate.execute(status -> entityManager
+                .createQuery("select count(m) from Member m where m.id = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult());
+    }
+
+    @Test
+    @Description("사용 중인 커넥션 수가 같으면 replica 를 번갈아 사용해야 한다.")
+    public void 읽기_전용_트랜잭션은_replica_를_번갈아_사용해야한다() {
+        //When
+        List<String> databases = IntStream.range(0, 4)
+                .mapToObj(i -> readOnlyDatabase())
+                .collect(toList());
+
+        //Then
+        assertThat(databases).allMatch(database -> database.startsWith("ROUTING-REPLICA-"));
+        assertThat(databases.get(0)).isNotEqualTo(databases.get(1));
+        assertThat(databases.get(2)).isEqualTo(databases.get(0));
+        assertThat(databases.get(3)).isEqualTo(databases.get(1));
+    }
+
+    @Test
+    public void 쓰기_트랜잭션은_primary_를_사용해야한다() {
+        //When
+        String database = transactionTemplate.execute(status -> currentDatabase());
+
+        //Then
+        assertThat(database).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @Description("커밋한 스레드는 window 동안 primary 에서 읽고, 다른 스레드와 window 가 지난 후에는 replica 에서 읽어야 한다.")
+    public void 쓰기_후에는_같은_스레드의_읽기를_primary_에_고정해야한다() throws Exception {
+        //Given
+        Member member = Member.builder().name("memberA").age(20).build();
+        transactionTemplate.execute(status -> {
+            entityManager.persist(member);
+            return null;
+        });
+
+        //When
+        String pinnedDatabase = readOnlyDatabase();
+        long pinnedCount = countMember(member.getId());
+        long otherThreadCount = CompletableFuture.supplyAsync(() -> countMember(member.getId())).get();
+        Thread.sleep(READ_YOUR_WRITES_WINDOW_MILLIS + 100);
+        String unpinnedDatabase = readOnlyDatabase();
+
+        //Then
+        assertThat(pinnedDatabase).isEqualTo(PRIMARY);
+        assertThat(pinnedCount).isEqualTo(1);
+        assertThat(otherThreadCount).isZero();
+        assertThat(unpinnedDatabase).startsWith("ROUTING-REPLICA-");
+    }
+
+    @Test
+    public void 읽기_전용_트랜잭션만_실행하면_primary_에_고정하지_않아야한다() {
+        //Given
+        readOnlyDatabase();
+
+        //When
+        String database = readOnlyDatabase();
+
+        //Then
+        assertThat(database).startsWith("ROUTING-REPLICA-");
+    }
+
+    @Test
+    @Description("한 replica 의 커넥션을 사용하는 동안 다른 트랜잭션은 사용 중인 커넥션이 없는 replica 를 사용해야 한다.")
+    public void 사용_중인_커넥션이_적은_replica_를_사용해야한다() {
+        //When
+        List<String> databases = readOnlyTransactionTemplate.execute(status -> {
+            String busy = currentDatabase();
+            List<String> others = IntStream.range(0, 3)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(this::readOnlyDatabase).join())
+                    .collect(toList());
+            others.add(0, busy);
+            return others;
+        });
+
+        //Then
+        assertThat(databases.get(0)).startsWith("ROUTING-REPLICA-");
+        assertThat(databases.subList(1, 4)).allMatch(database -> database.startsWith("ROUTING-REPLICA-"))
+                .doesNotContain(databases.get(0));
+    }
+
+    @Test
+    @Description({
+            "executor 에서 실행하는 조회도 쓰기를 커밋한 스레드의 고정을 넘겨받아 primary 에서 읽어야 한다.",
+            "고정을 해제한 뒤의 조회는 executor 의 스레드에 이전 작업의 고정이 남아있지 않아 replica 에서 읽어야 한다."
+    })
+    public void 비동기_조회도_쓰기_후에는_primary_에서_읽어야한다() throws Exception {
+        //Given
+        transactionTemplate.execute(status -> {
+            entityManager.persist(Member.builder().name("memberA").age(20).build());
+            return null;
+        });
+
+        //When
+        List<MemberItem> pinned = asyncMemberQueries.findByName("memberA").get(10, TimeUnit.SECONDS);
+        replicaRoutingDataSource.unpin();
+        List<MemberItem> unpinned = asyncMemberQueries.findByName("memberA").get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(pinned).extracting(MemberItem::getName).containsExactly("memberA");
+        assertThat(unpinned).isEmpty();
+    }
+
+    @Test
+    @Description("비동기 조회는 읽기 전용 트랜잭션이기 때문에 동시 실행 수는 replica 커넥션 풀 크기의 합이어야 한다.")
+    public void 비동기_조회의_동시_실행_수는_replica_커넥션_풀_크기를_따라야한다() {
+        //When
+        int maxConcurrency = asyncMemberQueries.getMaxConcurrency();
+
+        //Then
+        assertThat(replicaRoutingDataSource.getReplicaMaximumPoolSize()).isEqualTo(REPLICA_COUNT * HIKARI_DEFAULT_POOL_SIZE);
+        assertThat(maxConcurrency).isEqualTo(replicaRoutingDataSource.getReplicaMaximumPoolSize());
+    }
+}
@@ -0,0 +1,234 @@
+package me.jpa.usageref.search;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.IndexRebuildReport;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberPatch;
+import me.jpa.usageref.dto.MemberRecord;
+import me.jpa.usageref.service.MemberBulkImporter;
+import me.jpa.usageref.service.MemberBulkUpdater;
+import me.jpa.usageref.service.MemberDetachedUpdater;
+import me.jpa.usageref.service.TeamStatsService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = "usageref.import.chunk-size=10")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MemberSearchService.class, MemberSearchIndexer.class, MemberDetachedUpdater.class, MemberBulkUpdater.class, MemberBulkImporter.class,
+        TeamStatsService.class})
+@Description({
+        "like '%x%' 조건은 B-tree 인덱스를 사용할 수 없어서 member 테이블 전체를 읽는다.",
+        "Hibernate Search 는 커밋 시점에 변경된 엔티티를 Lucene 인덱스에 반영하기 때문에 이 테스트는 트랜잭션을 직접 커밋한다."
+})
+public class MemberSearchServiceTest {
+    private static final int MAX_RESULTS = 10;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberSearchService memberSearchService;
+
+    @Autowired
+    private MemberSearchIndexer memberSearchIndexer;
+
+    @Autowired
+    private MemberDetachedUpdater memberDetachedUpdater;
+
+    @Autowired
+    private MemberBulkUpdater memberBulkUpdater;
+
+    @Autowired
+    private MemberBulkImporter memberBulkImporter;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> entityManager.createQuery("delete from Member").executeUpdate());
+        memberSearchIndexer.rebuild();
+    }
+
+    private Member save(String name, String city, String street) {
+        Member member = Member.builder().name(name).age(20).address(new Address(city, street)).build();
+        transactionTemplate.execute(status -> {
+            entityManager.persist(member);
+            return null;
+        });
+        return member;
+    }
+
+    @Test
+    @Description("대소문자와 관계없이 입력한 단어들로 시작하는 단어를 모두 포함한 이름만 찾아야 한다.")
+    public void 이름의_단어_prefix_로_검색하고_인덱스에서_projection_해야한다() {
+        //Given
+        Member gildong = save("Hong Gildong", "Seoul", "Teheran-ro");
+        save("Hong Sunsin", "Busan", "Haeundae-ro");
+        save("Kim Gildong", "Seoul", "Gangnam-daero");
+
+        //When
+        List<MemberItem> items = memberSearchService.searchByNamePrefix("hong GIL", MAX_RESULTS);
+
+        //Then
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getId()).isEqualTo(gildong.getId());
+        assertThat(items.get(0).getName()).isEqualTo("Hong Gildong");
+    }
+
+    @Test
+    @Description("오타가 있어도 이름, 도시, 거리 중 하나와 편집 거리 2 이내이면 찾아야 한다.")
+    public void 오타가_있어도_이름과_주소에서_검색해야한다() {
+        //Given
+        Member seoul = save("memberA", "Seoul", "Teheran-ro");
+        Member teheran = save("memberB", "Busan", "Teheran-ro");
+        save("memberC", "Daegu", "Dongseong-ro");
+
+        //When
+        List<MemberItem> byCity = memberSearchService.searchFuzzy("Seuol", MAX_RESULTS);
+        List<MemberItem> byStreet = memberSearchService.searchFuzzy("teheren", MAX_RESULTS);
+
+        //Then
+        assertThat(byCity).extracting(MemberItem::getId).containsExactly(seoul.getId());
+        assertThat(byStreet).extracting(MemberItem::getId).containsExactlyInAnyOrder(seoul.getId(), teheran.getId());
+    }
+
+    @Test
+    public void 멤버를_수정하거나_삭제하면_커밋_후에_인덱스에_반영해야한다() {
+        //Given
+        Member renamed = save("Lee Jihoon", "Seoul", "Teheran-ro");
+        Member removed = save("Lee Jimin", "Seoul", "Teheran-ro");
+
+        //When
+        transactionTemplate.execute(status -> {
+            entityManager.find(Member.class, renamed.getId()).changeName("Park Jihoon");
+            entityManager.remove(entityManager.find(Member.class, removed.getId()));
+            return null;
+        });
+
+        //Then
+        assertThat(memberSearchService.searchByNamePrefix("lee", MAX_RESULTS)).isEmpty();
+        assertThat(memberSearchService.searchByNamePrefix("park", MAX_RESULTS))
+                .extracting(MemberItem::getName)
+                .containsExactly("Park Jihoon");
+    }
+
+    @Test
+    @Description("native UPDATE 는 event 를 거치지 않기 때문에 MemberDetachedUpdater 가 직접 다시 인덱싱해야 한다.")
+    public void 준영속_멤버를_UPDATE_문으로_수정해도_인덱스에_반영해야한다() {
+        //Given
+        Member member = save("Choi Minsu", "Seoul", "Teheran-ro");
+        MemberPatch patch = MemberPatch.builder()
+                .id(member.getId())
+                .version(member.getVersion())
+                .name("Jung Minsu")
+                .build();
+
+        //When
+        transactionTemplate.execute(status -> memberDetachedUpdater.update(patch));
+
+        //Then
+        assertThat(memberSearchService.searchByNamePrefix("choi", MAX_RESULTS)).isEmpty();
+        assertThat(memberSearchService.searchByNamePrefix("jung", MAX_RESULTS))
+                .extracting(MemberItem::getId)
+                .containsExactly(member.getId());
+    }
+
+    @Test
+    @Description("벌크 연산으로 이름을 변경하거나 삭제한 멤버만 커밋 후에 다시 인덱싱하거나 인덱스에서 제거해야 한다.")
+    public void 벌크_연산으로_변경하거나_삭제한_멤버를_커밋_후에_인덱스에_반영해야한다() {
+        //Given
+        save("Han Sora", "Seoul", "Teheran-ro");
+        save("Han Bora", "Seoul", "Teheran-ro");
+        Member young = Member.builder().name("Seo Yuna").age(10).build();
+        transactionTemplate.execute(status -> {
+            entityManager.persist(young);
+            return null;
+        });
+
+        //When
+        transactionTemplate.execute(status -> memberBulkUpdater.renameByPattern("Han %", "Yoo "));
+        transactionTemplate.execute(status -> memberBulkUpdater.deleteYoungerThanWithoutOrders(15));
+
+        //Then
+        assertThat(memberSearchService.searchByNamePrefix("yoo", MAX_RESULTS))
+                .extracting(MemberItem::getName)
+                .containsExactlyInAnyOrder("Yoo Han Sora", "Yoo Han Bora");
+        assertThat(memberSearchService.searchByNamePrefix("seo", MAX_RESULTS)).isEmpty();
+    }
+
+    @Test
+    @Description("가져온 멤버의 인덱싱 작업은 커밋까지 쌓이지 않고 chunk 를 flush 할 때마다 인덱스에 반영되어야 한다.")
+    public void 가져온_멤버는_chunk_마다_인덱스에_반영되어야한다() {
+        //Given
+        List<MemberRecord> records = IntStream.range(0, 25)
+                .mapToObj(i -> MemberRecord.builder().name("Bae Imported" + i).age(20).build())
+                .collect(toList());
+
+        //When
+        List<MemberItem> indexedBeforeCommit = transactionTemplate.execute(status -> {
+            memberBulkImporter.importRecords(records.iterator());
+            return memberSearchService.searchByNamePrefix("bae", records.size());
+        });
+
+        //Then
+        assertThat(indexedBeforeCommit).hasSize(records.size());
+        assertThat(memberSearchService.searchByNamePrefix("bae", records.size())).hasSize(records.size());
+    }
+
+    @Test
+    @Description("JPQL 벌크 연산으로 인덱스와 달라진 멤버를 MassIndexer 로 다시 인덱싱해야 한다.")
+    public void 인덱스를_다시_만들면_벌크_연산으로_변경된_멤버를_반영해야한다() {
+        //Given
+        save("Kang Hana", "Seoul", "Teheran-ro");
+        save("Kang Dul", "Seoul", "Teheran-ro");
+        transactionTemplate.execute(status -> entityManager.createQuery("update Member m set m.name = concat('Yoon ', m.name)")
+                .executeUpdate());
+
+        //When
+        IndexRebuildReport report = memberSearchIndexer.rebuild();
+
+        //Then
+        assertThat(report.getIndexedCount()).isEqualTo(2);
+        assertThat(memberSearchService.searchByNamePrefix("yoon kang", MAX_RESULTS)).hasSize(2);
+    }
+
+    @Test
+    public void 트랜잭션_안에서는_인덱스를_다시_만들_수_없어야한다() {
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> memberSearchIndexer.rebuild()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
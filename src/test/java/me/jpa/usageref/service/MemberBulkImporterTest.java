@@ -0,0 +1,143 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.ImportReport;
+import me.jpa.usageref.dto.MemberRecord;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = "usageref.import.chunk-size=100")
+@Import(MemberBulkImporter.class)
+@Description({
+        "하나의 Persistence Context 에 수천 개의 Entity 를 쌓아두면 flush 시 변경 감지 비용과 메모리 사용량이 선형으로 증가한다.",
+        "chunk 단위로 flush() & clear() 를 호출해 Persistence Context 의 크기를 chunk 크기로 유지한다."
+})
+public class MemberBulkImporterTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberBulkImporter memberBulkImporter;
+
+    @Test
+    public void chunk_단위로_저장하고_처리량을_보고해야한다() {
+        //Given
+        int rowCount = 1_050;
+
+        //When
+        ImportReport report = memberBulkImporter.importRecords(createRecords(rowCount, 3));
+
+        //Then
+        assertThat(report.getRowCount()).isEqualTo(rowCount);
+        assertThat(report.getChunkCount()).isEqualTo(11);
+        assertThat(report.getRowsPerSecond()).isPositive();
+        assertThat(report.getPeakUsedHeapBytes()).isPositive();
+        assertThat(countOf("select count(m) from Member m")).isEqualTo(rowCount);
+        assertThat(countOf("select count(t) from Team t")).isEqualTo(3);
+    }
+
+    private Iterator<MemberRecord> createRecords(int rowCount, int teamCount) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(i -> MemberRecord.builder()
+                        .name("member" + i)
+                        .age(i % 100)
+                        .city("seoul")
+                        .street("street" + i)
+                        .teamName("team" + (i % teamCount))
+                        .build())
+                .iterator();
+    }
+
+    private long countOf(String jpql) {
+        return entityManager.createQuery(jpql, Long.class).getSingleResult();
+    }
+
+    @Test
+    @Description("chunk 가 끝날 때마다 Persistence Context 를 비워야 하므로 저장이 끝난 Entity 는 더 이상 영속 상태가 아니어야 한다.")
+    public void 저장이_끝나면_Persistence_Context_가_비워져있어야한다() {
+        //Given
+        Member member = Member.builder().name("existing").age(10).build();
+        entityManager.persist(member);
+
+        //When
+        memberBulkImporter.importRecords(createRecords(10, 1));
+
+        //Then
+        assertThat(entityManager.contains(member)).isFalse();
+    }
+
+    @Test
+    @Description({
+            "팀 조회는 row 마다가 아니라 chunk 마다 한 번씩만 실행되어야 한다.",
+            "따라서 실행되는 SQL 의 수는 row 수가 아닌 chunk 수에 비례해야 한다."
+    })
+    public void 팀_조회는_row_마다가_아니라_chunk_마다_실행되어야한다() {
+        //Given
+        int rowCount = 1_000;
+        int teamCount = 5;
+        memberBulkImporter.importRecords(createRecords(teamCount, teamCount));
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        ImportReport report = memberBulkImporter.importRecords(createRecords(rowCount, teamCount));
+
+        //Then
+        assertThat(counter.getExecutedStatementCount()).isLessThan(rowCount / 5);
+        assertThat(counter.getExecutedBatchCount()).isGreaterThanOrEqualTo(report.getChunkCount());
+    }
+
+    @Test
+    public void CSV_로부터_멤버와_주소_팀을_저장해야한다() {
+        //Given
+        String csv = "name,age,city,street,team\n" +
+                "minhyuk,28,seoul,street1,teamA\n" +
+                "yoon,30,busan,street2,teamA\n" +
+                "kim,25,,,\n";
+
+        //When
+        ImportReport report = memberBulkImporter.importCsv(new StringReader(csv));
+
+        //Then
+        assertThat(report.getRowCount()).isEqualTo(3);
+        Member minhyuk = entityManager.createQuery("select m from Member m where m.name = :name", Member.class)
+                .setParameter("name", "minhyuk")
+                .getSingleResult();
+        assertThat(minhyuk.getAddress().getCity()).isEqualTo("seoul");
+        assertThat(minhyuk.getTeam().getName()).isEqualTo("teamA");
+
+        Member kim = entityManager.createQuery("select m from Member m where m.name = :name", Member.class)
+                .setParameter("name", "kim")
+                .getSingleResult();
+        assertThat(kim.getAddress()).isNull();
+        assertThat(kim.getTeam()).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void CSV_컬럼수가_맞지않으면_예외가_발생해야한다() {
+        //Given
+        String csv = "name,age,city,street,team\n" +
+                "minhyuk,28\n";
+
+        //When Then
+        memberBulkImporter.importCsv(new StringReader(csv));
+    }
+}
@@ -0,0 +1,168 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.BulkUpdateReport;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import me.jpa.usageref.stats.TeamStatsConfiguration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({TeamStatsConfiguration.class, MemberBulkUpdater.class, MemberSearchIndexer.class, TeamStatsService.class})
+@Description({
+        "변경 감지로 여러 엔티티를 수정하면 엔티티마다 SELECT 와 UPDATE 가 실행된다.",
+        "JPQL 벌크 연산은 한 번의 UPDATE/DELETE 로 실행되지만 Persistence Context 를 거치지 않기 때문에 이미 조회한 엔티티는 DB 와 달라진다."
+})
+public class MemberBulkUpdaterTest {
+    private static final int MEMBER_COUNT = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberBulkUpdater memberBulkUpdater;
+
+    @Autowired
+    private TeamStatsService teamStatsService;
+
+    @Test
+    @Description({
+            "나이 변경은 대상 팀을 찾는 SELECT, 한 번의 UPDATE, 대상 팀의 team_stats 를 다시 계산하는 UPDATE 로 실행되어야 하고,",
+            "이미 조회되어 있던 멤버를 다시 조회하면 변경된 나이를 반환해야 한다."
+    })
+    public void 나이를_한번의_UPDATE_로_변경해야한다() {
+        //Given
+        List<Member> members = saveMembers(teamNamed("teamA"));
+        Member oldest = members.get(MEMBER_COUNT - 1);
+        entityManager.flush();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        BulkUpdateReport report = memberBulkUpdater.increaseAge(50, 1);
+
+        //Then
+        assertThat(report.getAffectedRows()).isEqualTo(50);
+        assertThat(counter.getExecutedStatementCount()).isEqualTo(3);
+        assertThat(entityManager.contains(oldest)).isFalse();
+        assertThat(entityManager.find(Member.class, oldest.getId()).getAge()).isEqualTo(MEMBER_COUNT);
+    }
+
+    private Team teamNamed(String name) {
+        Team team = Team.builder().name(name).build();
+        entityManager.persist(team);
+        return team;
+    }
+
+    private List<Member> saveMembers(Team team) {
+        return IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> {
+                    Member member = Member.builder().name("member" + i).age(i).build();
+                    member.joinTeam(team);
+                    entityManager.persist(member);
+                    return member;
+                })
+                .collect(toList());
+    }
+
+    @Test
+    @Description("팀 변경 후에는 이전에 조회한 팀의 members 컬렉션도 DB 에서 다시 읽어야 한다.")
+    public void 팀의_모든_멤버를_다른_팀으로_옮겨야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        Team teamB = teamNamed("teamB");
+        saveMembers(teamA);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(entityManager.find(Team.class, teamA.getId()).getMembers()).hasSize(MEMBER_COUNT);
+
+        //When
+        BulkUpdateReport report = memberBulkUpdater.moveTeam("teamA", "teamB");
+
+        //Then
+        assertThat(report.getAffectedRows()).isEqualTo(MEMBER_COUNT);
+        assertThat(entityManager.find(Team.class, teamA.getId()).getMembers()).isEmpty();
+        assertThat(entityManager.find(Team.class, teamB.getId()).getMembers()).hasSize(MEMBER_COUNT);
+    }
+
+    @Test
+    @Description("팀 변경은 멤버가 빠진 팀과 들어온 팀의 통계만 다시 계산하고 다른 팀의 통계는 건드리지 않아야 한다.")
+    public void 팀을_옮기면_두_팀의_통계만_다시_계산해야한다() {
+        //Given
+        saveMembers(teamNamed("teamA"));
+        teamNamed("teamB");
+        saveMembers(teamNamed("teamC"));
+        entityManager.flush();
+        entityManager.createNativeQuery("update team_stats set member_count = 0 where team_id = (select t.id from team t where t.name = 'teamC')")
+                .executeUpdate();
+
+        //When
+        memberBulkUpdater.moveTeam("teamA", "teamB");
+
+        //Then
+        assertThat(teamStatsService.findMismatchedTeamNames()).containsExactly("teamC");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 존재하지_않는_팀으로_옮기면_예외가_발생해야한다() {
+        //Given
+        teamNamed("teamA");
+
+        //When Then
+        memberBulkUpdater.moveTeam("teamA", "unknown");
+    }
+
+    @Test
+    @Description("flush 되지 않은 변경 사항도 벌크 연산 전에 DB 에 반영되어야 한다.")
+    public void 패턴에_맞는_멤버의_이름을_변경해야한다() {
+        //Given
+        List<Member> members = saveMembers(teamNamed("teamA"));
+        members.get(0).changeName("other");
+
+        //When
+        BulkUpdateReport report = memberBulkUpdater.renameByPattern("member1%", "vip-");
+
+        //Then
+        assertThat(report.getAffectedRows()).isEqualTo(11);
+        assertThat(entityManager.find(Member.class, members.get(1).getId()).getName()).isEqualTo("vip-member1");
+        assertThat(entityManager.find(Member.class, members.get(0).getId()).getName()).isEqualTo("other");
+    }
+
+    @Test
+    public void 주문이_없는_어린_멤버만_삭제해야한다() {
+        //Given
+        List<Member> members = saveMembers(teamNamed("teamA"));
+        Product product = Product.builder().name("product").build();
+        entityManager.persist(product);
+        entityManager.persist(Orders.builder().member(members.get(0)).product(product).build());
+
+        //When
+        BulkUpdateReport report = memberBulkUpdater.deleteYoungerThanWithoutOrders(10);
+
+        //Then
+        assertThat(report.getAffectedRows()).isEqualTo(9);
+        assertThat(entityManager.find(Member.class, members.get(0).getId())).isNotNull();
+        assertThat(entityManager.find(Member.class, members.get(1).getId())).isNull();
+    }
+}
@@ -0,0 +1,185 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.MemberPatch;
+import me.jpa.usageref.dto.MemberUpdateResult;
+import me.jpa.usageref.dto.TeamStatsItem;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import me.jpa.usageref.stats.TeamStatsConfiguration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({TeamStatsConfiguration.class, TeamStatsService.class, MemberDetachedUpdater.class, MemberSearchIndexer.class})
+@Description({
+        "merge() 는 준영속 엔티티를 반영하기 위해 SELECT 후 모든 컬럼을 UPDATE 한다.",
+        "클라이언트가 조회했던 version 을 알고 있다면 변경된 컬럼만 version 조건으로 바로 UPDATE 할 수 있다."
+})
+public class MemberDetachedUpdaterTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberDetachedUpdater memberDetachedUpdater;
+
+    @Autowired
+    private TeamStatsService teamStatsService;
+
+    @Test
+    @Description({
+            "version 이 최신이면 조회 없이 변경된 나이만 UPDATE 해야 한다.",
+            "멤버를 수정하는 UPDATE 와 팀 통계를 다시 계산하는 UPDATE 만 실행된다."
+    })
+    public void 최신_version_이면_조회_없이_UPDATE_만_실행되어야한다() {
+        //Given
+        Member member = saveMember(20);
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        MemberUpdateResult result = memberDetachedUpdater.update(MemberPatch.builder()
+                .id(member.getId())
+                .version(member.getVersion())
+                .age(30)
+                .build());
+
+        //Then
+        assertThat(counter.getRoundTripCount()).isEqualTo(2);
+        assertThat(result.isMerged()).isFalse();
+        assertThat(result.getVersion()).isEqualTo(member.getVersion() + 1);
+
+        Member updated = entityManager.find(Member.class, member.getId());
+        assertThat(updated.getAge()).isEqualTo(30);
+        assertThat(updated.getName()).isEqualTo("member");
+        assertThat(updated.getAddress()).isEqualTo(member.getAddress());
+        assertThat(updated.getVersion()).isEqualTo(result.getVersion());
+    }
+
+    @Test
+    @Description("이름을 변경한 멤버는 커밋 후에 다시 인덱싱하기 때문에 트랜잭션 안에서는 멤버를 수정하는 UPDATE 만 실행되어야 한다.")
+    public void 이름을_변경하면_조회_없이_UPDATE_한번만_실행되어야한다() {
+        //Given
+        Member member = saveMember(20);
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        MemberUpdateResult result = memberDetachedUpdater.update(MemberPatch.builder()
+                .id(member.getId())
+                .version(member.getVersion())
+                .name("renamed")
+                .build());
+
+        //Then
+        assertThat(counter.getRoundTripCount()).isOne();
+        assertThat(result.isMerged()).isFalse();
+        assertThat(entityManager.find(Member.class, member.getId()).getName()).isEqualTo("renamed");
+    }
+
+    private Member saveMember(int age) {
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+        Member member = Member.builder().name("member").age(age).address(new Address("city", "street")).build();
+        member.joinTeam(team);
+        entityManager.persist(member);
+        entityManager.flush();
+        entityManager.clear();
+        return member;
+    }
+
+    @Test
+    @Description({
+            "다른 트랜잭션이 먼저 수정해서 version 이 다르면 조회 후 변경 감지로 반영해야 한다.",
+            "0 건을 수정한 UPDATE, 멤버를 조회하는 SELECT, 변경 감지로 실행되는 UPDATE 가 실행된다."
+    })
+    public void version_이_다르면_조회해서_반영해야한다() {
+        //Given
+        Member member = saveMember(20);
+        Long staleVersion = member.getVersion();
+        entityManager.find(Member.class, member.getId()).changeName("changed by other");
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evict(Member.class);
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        MemberUpdateResult result = memberDetachedUpdater.update(MemberPatch.builder()
+                .id(member.getId())
+                .version(staleVersion)
+                .address(new Address("newCity", "newStreet"))
+                .build());
+
+        //Then
+        assertThat(counter.getRoundTripCount()).isEqualTo(3);
+        assertThat(result.isMerged()).isTrue();
+        assertThat(result.getVersion()).isEqualTo(staleVersion + 2);
+
+        entityManager.clear();
+        Member updated = entityManager.find(Member.class, member.getId());
+        assertThat(updated.getName()).isEqualTo("changed by other");
+        assertThat(updated.getAddress()).isEqualTo(new Address("newCity", "newStreet"));
+    }
+
+    @Test
+    @Description("UPDATE 문으로 나이를 변경해도 팀 통계는 실제 집계와 같아야 한다.")
+    public void 나이를_변경하면_팀_통계를_다시_계산해야한다() {
+        //Given
+        Member member = saveMember(20);
+
+        //When
+        memberDetachedUpdater.update(MemberPatch.builder()
+                .id(member.getId())
+                .version(member.getVersion())
+                .age(30)
+                .build());
+
+        //Then
+        TeamStatsItem stats = teamStatsService.findByTeamName("teamA").orElseThrow(IllegalStateException::new);
+        assertThat(stats.getMinAge()).isEqualTo(30);
+        assertThat(teamStatsService.findMismatchedTeamNames()).isEmpty();
+    }
+
+    @Test
+    @Description("UPDATE 후에는 2차 캐시에 남아있던 이전 값을 다시 읽지 않아야 한다.")
+    public void 변경한_멤버는_2차_캐시에서_제거되어야한다() {
+        //Given
+        Member member = saveMember(20);
+        entityManager.find(Member.class, member.getId());
+        entityManager.clear();
+
+        //When
+        memberDetachedUpdater.update(MemberPatch.builder()
+                .id(member.getId())
+                .version(member.getVersion())
+                .name("renamed")
+                .build());
+
+        //Then
+        assertThat(entityManager.getEntityManagerFactory().getCache().contains(Member.class, member.getId())).isFalse();
+        assertThat(entityManager.find(Member.class, member.getId()).getName()).isEqualTo("renamed");
+    }
+
+    @Test
+    public void 존재하지_않는_멤버는_변경할_수_없어야한다() {
+        assertThatThrownBy(() -> memberDetachedUpdater.update(MemberPatch.builder().id(-1L).version(0L).name("none").build()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
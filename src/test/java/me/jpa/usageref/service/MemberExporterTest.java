@@ -0,0 +1,216 @@
+package me.jpa.usageref.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Address;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.ExportFormat;
+import me.jpa.usageref.dto.ExportReport;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/member-export",
+        "usageref.export.fetch-size=1000",
+        "usageref.export.clear-interval=1000",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberExporter.class, MemberExporterTest.CleanMigrationConfiguration.class})
+@Transactional(readOnly = true)
+@Description({
+        "getResultList() 는 모든 row 를 List 로 만들고, 조회한 엔티티는 트랜잭션이 끝날 때까지 Persistence Context 에 쌓인다.",
+        "forward-only 커서로 row 를 하나씩 읽고 read-only 로 조회한 엔티티를 주기적으로 clear() 하면 전체 row 수와 상관없이 일정한 메모리로 내보낼 수 있다.",
+        "100만 건의 row 가 heap 을 차지하지 않도록 이 테스트는 파일 기반의 H2 를 사용한다."
+})
+public class MemberExporterTest {
+    private static final int CLEAR_INTERVAL = 1_000;
+    private static final long MEGA_BYTES = 1024 * 1024;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberExporter memberExporter;
+
+    /**
+     * 파일 기반 DB 는 이전 실행의 schema 가 남아있기 때문에 migration 전에 비운다.
+     */
+    @TestConfiguration
+    static class CleanMigrationConfiguration {
+        @Bean
+        public FlywayMigrationStrategy cleanMigrationStrategy() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Test
+    public void 멤버를_CSV_로_내보내야한다() {
+        //Given
+        saveMembers();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        ExportReport report = memberExporter.exportMembers(ExportFormat.CSV, outputStream);
+
+        //Then
+        String[] lines = outputStream.toString().split("\n");
+        assertThat(report.getRowCount()).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,name,age,city,street,team");
+        assertThat(lines[1]).endsWith(",minhyuk,28,seoul,\"street, 1\",teamA");
+        assertThat(lines[2]).endsWith(",\"say \"\"hi\"\"\",30,,,");
+    }
+
+    private void saveMembers() {
+        Team team = Team.builder().name("teamA").build();
+        entityManager.persist(team);
+
+        Member minhyuk = Member.builder().name("minhyuk").age(28).address(new Address("seoul", "street, 1")).build();
+        minhyuk.joinTeam(team);
+        entityManager.persist(minhyuk);
+        entityManager.persist(Member.builder().name("say \"hi\"").age(30).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void 멤버를_JSON_Lines_로_내보내야한다() throws IOException {
+        //Given
+        saveMembers();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        memberExporter.exportMembers(ExportFormat.JSON_LINES, outputStream);
+
+        //Then
+        String[] lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("name").asText()).isEqualTo("minhyuk");
+        assertThat(first.get("age").asInt()).isEqualTo(28);
+        assertThat(first.get("street").asText()).isEqualTo("street, 1");
+        assertThat(first.get("team").asText()).isEqualTo("teamA");
+        assertThat(new ObjectMapper().readTree(lines[1]).get("team").isNull()).isTrue();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @Transactional
+    @Description("읽기 전용이 아닌 트랜잭션에서 내보내면 호출한 쪽의 flush 되지 않은 변경이 clear() 로 사라지므로 실행하지 않아야 한다.")
+    public void 읽기_전용이_아닌_트랜잭션에서_내보내면_예외가_발생해야한다() {
+        //Given
+        saveMembers();
+        entityManager.persist(Member.builder().name("unflushed").age(20).build());
+
+        //When Then
+        memberExporter.exportMembers(ExportFormat.CSV, new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void MemberItem_컬럼만_내보낼_수_있어야한다() {
+        //Given
+        saveMembers();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        memberExporter.exportItems(ExportFormat.CSV, outputStream);
+
+        //Then
+        String[] lines = outputStream.toString().split("\n");
+        assertThat(lines[0]).isEqualTo("id,name");
+        assertThat(lines[1]).endsWith(",minhyuk");
+    }
+
+    @Test
+    @Description({
+            "100만 명의 멤버를 내보내는 동안 Persistence Context 에는 clear-interval 이상의 엔티티가 쌓이지 않아야 하고",
+            "GC 이후의 heap 사용량은 내보낸 row 수에 비례해서 증가하지 않아야 한다."
+    })
+    public void 백만명의_멤버를_일정한_메모리로_내보내야한다() {
+        //Given
+        int memberCount = 1_000_000;
+        entityManager.createNativeQuery("insert into member (id, name, age) " +
+                "select x, concat('member', x), mod(x, 100) from system_range(1, " + memberCount + ")")
+                .executeUpdate();
+        HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream(100_000);
+
+        //When
+        ExportReport report = memberExporter.exportMembers(ExportFormat.CSV, outputStream);
+
+        //Then
+        long minHeap = Collections.min(outputStream.usedHeapSamples);
+        long maxHeap = Collections.max(outputStream.usedHeapSamples);
+        assertThat(report.getRowCount()).isEqualTo(memberCount);
+        assertThat(outputStream.lineCount).isEqualTo(memberCount + 1);
+        assertThat(outputStream.usedHeapSamples.size()).isGreaterThanOrEqualTo(9);
+        assertThat(outputStream.maxManagedEntityCount).isLessThanOrEqualTo(CLEAR_INTERVAL);
+        assertThat(maxHeap - minHeap).isLessThan(32 * MEGA_BYTES);
+    }
+
+    /**
+     * sampleInterval 개의 line 이 기록될 때마다 GC 이후의 heap 사용량과 Persistence Context 의 크기를 기록한다.
+     */
+    private class HeapSamplingOutputStream extends OutputStream {
+        private final int sampleInterval;
+        private final List<Long> usedHeapSamples = new ArrayList<>();
+        private long lineCount;
+        private int maxManagedEntityCount;
+
+        private HeapSamplingOutputStream(int sampleInterval) {
+            this.sampleInterval = sampleInterval;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n' && ++lineCount % sampleInterval == 0) sample();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) write(bytes[i]);
+        }
+
+        private void sample() {
+            int managedEntityCount = entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContext()
+                    .getNumberOfManagedEntities();
+            maxManagedEntityCount = Math.max(maxManagedEntityCount, managedEntityCount);
+
+            System.gc();
+            Runtime runtime = Runtime.getRuntime();
+            usedHeapSamples.add(runtime.totalMemory() - runtime.freeMemory());
+        }
+    }
+}
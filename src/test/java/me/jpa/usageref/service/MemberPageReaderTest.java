@@ -0,0 +1,173 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.dto.MemberCursor;
+import me.jpa.usageref.dto.MemberItem;
+import me.jpa.usageref.dto.MemberPage;
+import me.jpa.usageref.dto.MemberSortKey;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(MemberPageReader.class)
+@Description({
+        "setFirstResult(..) 를 이용한 OFFSET paging 은 앞 페이지의 row 를 모두 읽고 버리기 때문에 페이지가 깊어질수록 느려진다.",
+        "Keyset (seek) paging 은 마지막으로 읽은 row 의 정렬 키 다음부터 조회하기 때문에 페이지 깊이와 상관없이 인덱스를 타고 바로 시작 위치를 찾는다."
+})
+public class MemberPageReaderTest {
+    private static final int MEMBER_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberPageReader memberPageReader;
+
+    @Test
+    public void id_기준으로_모든_페이지를_중복없이_순서대로_조회해야한다() {
+        //Given
+        List<Member> members = saveMembers();
+
+        //When
+        List<Member> readMembers = new ArrayList<>();
+        int pageCount = 0;
+        String token = null;
+        do {
+            MemberPage<Member> page = memberPageReader.readMembers(MemberSortKey.ID, token, PAGE_SIZE);
+            readMembers.addAll(page.getContent());
+            token = page.getNextToken();
+            pageCount++;
+        } while (token != null);
+
+        //Then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(readMembers).containsExactlyElementsOf(members.stream()
+                .sorted(Comparator.comparing(Member::getId))
+                .collect(toList()));
+    }
+
+    private List<Member> saveMembers() {
+        List<Member> members = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> Member.builder().name("member" + i).age(i % 4).build())
+                .collect(toList());
+        members.forEach(entityManager::persist);
+        entityManager.flush();
+        return members;
+    }
+
+    @Test
+    @Description("나이가 같은 멤버가 여러 명일 경우 id 를 보조 정렬 키로 사용해야 페이지 경계에서 누락이나 중복이 생기지 않는다.")
+    public void age_id_기준으로_모든_페이지를_중복없이_순서대로_조회해야한다() {
+        //Given
+        List<Member> members = saveMembers();
+
+        //When
+        List<Member> readMembers = new ArrayList<>();
+        String token = null;
+        do {
+            MemberPage<Member> page = memberPageReader.readMembers(MemberSortKey.AGE_ID, token, PAGE_SIZE);
+            readMembers.addAll(page.getContent());
+            token = page.getNextToken();
+        } while (token != null);
+
+        //Then
+        assertThat(readMembers).containsExactlyElementsOf(members.stream()
+                .sorted(Comparator.comparing(Member::getAge).thenComparing(Member::getId))
+                .collect(toList()));
+    }
+
+    @Test
+    public void MemberItem_으로도_페이지를_조회할_수_있어야한다() {
+        //Given
+        List<Member> members = saveMembers();
+
+        //When
+        MemberPage<MemberItem> firstPage = memberPageReader.readItems(MemberSortKey.AGE_ID, null, PAGE_SIZE);
+        MemberPage<MemberItem> secondPage = memberPageReader.readItems(MemberSortKey.AGE_ID, firstPage.getNextToken(), PAGE_SIZE);
+
+        //Then
+        List<Long> expectedIds = members.stream()
+                .sorted(Comparator.comparing(Member::getAge).thenComparing(Member::getId))
+                .map(Member::getId)
+                .limit(PAGE_SIZE * 2)
+                .collect(toList());
+        List<Long> readIds = new ArrayList<>();
+        firstPage.getContent().forEach(item -> readIds.add(item.getId()));
+        secondPage.getContent().forEach(item -> readIds.add(item.getId()));
+        assertThat(readIds).containsExactlyElementsOf(expectedIds);
+        assertThat(secondPage.hasNext()).isTrue();
+    }
+
+    @Test
+    public void 마지막_페이지에는_다음_token_이_없어야한다() {
+        //Given
+        saveMembers();
+
+        //When
+        MemberPage<Member> page = memberPageReader.readMembers(MemberSortKey.ID, null, MEMBER_COUNT);
+
+        //Then
+        assertThat(page.getContent().size()).isEqualTo(MEMBER_COUNT);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 정렬_기준이_다른_token_을_사용하면_예외가_발생해야한다() {
+        //Given
+        String token = MemberCursor.after(MemberSortKey.AGE_ID, 10, 1L).encode();
+
+        //When Then
+        memberPageReader.readMembers(MemberSortKey.ID, token, PAGE_SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 잘못된_token_을_사용하면_예외가_발생해야한다() {
+        //Given When Then
+        memberPageReader.readMembers(MemberSortKey.ID, "invalid-token", PAGE_SIZE);
+    }
+
+    @Test
+    public void token_은_encode_후_decode_하면_같은_cursor_여야한다() {
+        //Given
+        MemberCursor cursor = MemberCursor.after(MemberSortKey.AGE_ID, 28, 100L);
+
+        //When
+        MemberCursor decoded = MemberCursor.decode(cursor.encode());
+
+        //Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 값이_더_붙은_token_을_decode_하면_예외가_발생해야한다() {
+        //Given
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("AGE_ID:28:100:1".getBytes(StandardCharsets.UTF_8));
+
+        //When Then
+        MemberCursor.decode(token);
+    }
+}
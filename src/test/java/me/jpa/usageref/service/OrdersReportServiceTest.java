@@ -0,0 +1,186 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Orders;
+import me.jpa.usageref.domain.Product;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.OrdersReportFilter;
+import me.jpa.usageref.dto.OrdersReportItem;
+import me.jpa.usageref.dto.OrdersReportPage;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(OrdersReportService.class)
+@Description({
+        "주문 내역은 주문, 멤버, 팀, 상품을 join 한 생성자 projection 한 번으로 조회한다.",
+        "teamA 의 member0, member1, teamB 의 member2, 팀이 없는 member3 이 주문 5 건씩, 모두 20 건의 주문을 저장한다."
+})
+public class OrdersReportServiceTest {
+    private static final int ORDERS_PER_MEMBER = 5;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrdersReportService ordersReportService;
+
+    private List<Team> teams;
+    private List<Member> members;
+    private List<Orders> orders;
+
+    @Test
+    public void 주문_내역을_한번의_SQL_로_조회해야한다() {
+        //Given
+        saveOrders();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        OrdersReportPage page = ordersReportService.readPage(OrdersReportFilter.none(), null, 100);
+
+        //Then
+        assertThat(counter.getExecutedStatementCount()).isOne();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getContent()).hasSize(orders.size());
+        assertThat(page.getContent().get(0)).isEqualTo(new OrdersReportItem(orders.get(0).getId(), "member0", "teamA", "product0-0"));
+        assertThat(entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @Description("팀이 없는 멤버의 주문도 팀 이름이 null 로 조회되어야 한다.")
+    public void 팀이_없는_멤버의_주문도_조회해야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        OrdersReportPage page = ordersReportService.readPage(OrdersReportFilter.builder().memberId(members.get(3).getId()).build(), null, 100);
+
+        //Then
+        assertThat(page.getContent()).hasSize(ORDERS_PER_MEMBER);
+        page.getContent().forEach(item -> {
+            assertThat(item.getMemberName()).isEqualTo("member3");
+            assertThat(item.getTeamName()).isNull();
+        });
+    }
+
+    @Test
+    public void 주문_id_기준으로_모든_페이지를_중복없이_순서대로_조회해야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        List<Long> readIds = new ArrayList<>();
+        int pageCount = 0;
+        Long afterOrderId = null;
+        do {
+            OrdersReportPage page = ordersReportService.readPage(OrdersReportFilter.none(), afterOrderId, 7);
+            page.getContent().forEach(item -> readIds.add(item.getOrderId()));
+            afterOrderId = page.getNextAfterOrderId();
+            pageCount++;
+        } while (afterOrderId != null);
+
+        //Then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(readIds).containsExactlyElementsOf(orders.stream().map(Orders::getId).sorted().collect(toList()));
+    }
+
+    @Test
+    public void 팀으로_주문을_조회해야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        OrdersReportPage page = ordersReportService.readPage(OrdersReportFilter.builder().teamId(teams.get(0).getId()).build(), null, 100);
+
+        //Then
+        assertThat(page.getContent()).hasSize(2 * ORDERS_PER_MEMBER);
+        assertThat(page.getContent()).extracting(OrdersReportItem::getTeamName).containsOnly("teamA");
+    }
+
+    @Test
+    public void 여러_조건으로_주문을_조회해야한다() {
+        //Given
+        saveOrders();
+        Orders target = orders.get(7);
+        OrdersReportFilter filter = OrdersReportFilter.builder()
+                .memberId(target.getMember().getId())
+                .teamId(teams.get(0).getId())
+                .productId(target.getProduct().getId())
+                .build();
+
+        //When
+        OrdersReportPage page = ordersReportService.readPage(filter, null, 100);
+
+        //Then
+        assertThat(page.getContent()).extracting(OrdersReportItem::getOrderId).containsExactly(target.getId());
+        assertThat(page.getContent().get(0).getProductName()).isEqualTo("product1-2");
+    }
+
+    @Test
+    public void 조건에_맞는_주문이_없으면_빈_페이지를_조회해야한다() {
+        //Given
+        saveOrders();
+
+        //When
+        OrdersReportPage page = ordersReportService.readPage(OrdersReportFilter.builder().teamId(teams.get(1).getId()).build(),
+                orders.get(orders.size() - 1).getId(), 100);
+
+        //Then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 페이지_크기가_0_이면_예외가_발생해야한다() {
+        ordersReportService.readPage(OrdersReportFilter.none(), null, 0);
+    }
+
+    private void saveOrders() {
+        teams = IntStream.of('A', 'B')
+                .mapToObj(c -> Team.builder().name("team" + (char) c).build())
+                .collect(toList());
+        teams.forEach(entityManager::persist);
+
+        members = IntStream.range(0, 4)
+                .mapToObj(i -> Member.builder().name("member" + i).age(20 + i).build())
+                .collect(toList());
+        members.get(0).joinTeam(teams.get(0));
+        members.get(1).joinTeam(teams.get(0));
+        members.get(2).joinTeam(teams.get(1));
+        members.forEach(entityManager::persist);
+
+        orders = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            for (int j = 0; j < ORDERS_PER_MEMBER; j++) {
+                Product product = Product.builder().name("product" + i + "-" + j).build();
+                entityManager.persist(product);
+                Orders order = Orders.builder().member(members.get(i)).product(product).build();
+                entityManager.persist(order);
+                orders.add(order);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
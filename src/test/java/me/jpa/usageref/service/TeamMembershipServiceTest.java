@@ -0,0 +1,190 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = {
+        "usageref.retry.max-attempts=100",
+        "usageref.retry.initial-backoff-millis=1",
+        "usageref.retry.max-backoff-millis=50"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TeamMembershipService.class, OptimisticLockRetryExecutor.class})
+@Description({
+        "Team.addMember, Member.joinTeam 은 메모리의 상태를 확인한 뒤 변경하기 때문에 여러 트랜잭션이 동시에 실행되면 서로의 변경을 알 수 없다.",
+        "@Version 으로 커밋 시점에 다른 트랜잭션의 변경 여부를 확인하고, 충돌하면 엔티티를 다시 조회해서 작업을 다시 실행한다.",
+        "충돌을 확인하려면 트랜잭션을 실제로 커밋해야 하기 때문에 이 테스트는 트랜잭션을 직접 커밋한다."
+})
+public class TeamMembershipServiceTest {
+    private static final int THREAD_COUNT = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TeamMembershipService teamMembershipService;
+
+    @Autowired
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> {
+            entityManager.createQuery("delete from Member").executeUpdate();
+            entityManager.createQuery("delete from Team").executeUpdate();
+            return null;
+        });
+    }
+
+    @Test
+    @Description({
+            "200 개의 스레드가 동시에 같은 팀에 가입하면 팀의 version 이 충돌하지만 재시도를 통해 모든 가입이 반영되어야 한다.",
+            "충돌이 한 번도 없었다면 재시도를 확인하지 못한 것이기 때문에 충돌 횟수가 늘어났는지도 확인한다.",
+            "팀의 version 은 가입이 커밋될 때마다 한 번씩만 증가해야 한다."
+    })
+    public void 여러_스레드가_같은_팀에_동시에_가입해도_모든_가입이_반영되어야한다() throws Exception {
+        //Given
+        Long teamId = saveTeam("teamA");
+        List<Long> memberIds = saveMembers(THREAD_COUNT);
+        long conflictCountBefore = retryExecutor.getConflictCount();
+
+        //When
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        memberIds.forEach(memberId -> futures.add(executorService.submit(() -> {
+            ready.countDown();
+            start.await();
+            teamMembershipService.join(memberId, teamId);
+            return null;
+        })));
+
+        ready.await();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+
+        //Then
+        assertThat(retryExecutor.getConflictCount() - conflictCountBefore).isPositive();
+        transactionTemplate.execute(status -> {
+            Team team = entityManager.find(Team.class, teamId);
+            assertThat(team.getMembers()).hasSize(THREAD_COUNT);
+            assertThat(team.getVersion()).isEqualTo(THREAD_COUNT);
+            return null;
+        });
+    }
+
+    private Long saveTeam(String name) {
+        return transactionTemplate.execute(status -> {
+            Team team = Team.builder().name(name).build();
+            entityManager.persist(team);
+            return team.getId();
+        });
+    }
+
+    private List<Long> saveMembers(int memberCount) {
+        return transactionTemplate.execute(status -> IntStream.range(0, memberCount)
+                .mapToObj(i -> {
+                    Member member = Member.builder().name("member" + i).age(i % 100).build();
+                    entityManager.persist(member);
+                    return member.getId();
+                })
+                .collect(toList()));
+    }
+
+    @Test
+    @Description("먼저 조회한 트랜잭션이 나중에 커밋하면 다른 트랜잭션의 팀 가입을 덮어쓰지 않고 충돌이 발생해야 한다.")
+    public void 같은_멤버를_동시에_다른_팀에_가입시키면_나중에_커밋하는_트랜잭션은_실패해야한다() {
+        //Given
+        Long teamA = saveTeam("teamA");
+        Long teamB = saveTeam("teamB");
+        Long memberId = saveMembers(1).get(0);
+
+        //When
+        Throwable thrown = catchThrowable(() -> transactionTemplate.execute(status -> {
+            Member member = entityManager.find(Member.class, memberId);
+            joinInAnotherTransaction(memberId, teamB);
+            member.joinTeam(entityManager.find(Team.class, teamA));
+            return null;
+        }));
+
+        //Then
+        assertThat(thrown).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        Member member = transactionTemplate.execute(status -> entityManager.createQuery("select m from Member m join fetch m.team where m.id = :id", Member.class)
+                .setParameter("id", memberId)
+                .getSingleResult());
+        assertThat(member.getTeam().getId()).isEqualTo(teamB);
+    }
+
+    private void joinInAnotherTransaction(Long memberId, Long teamId) {
+        try {
+            CompletableFuture.runAsync(() -> teamMembershipService.join(memberId, teamId)).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @Description("재시도는 엔티티를 다시 조회하기 때문에 다른 트랜잭션이 먼저 팀에 가입시킨 멤버는 다시 가입할 수 없어야 한다.")
+    public void 이미_다른_팀에_가입된_멤버는_재시도해도_가입할_수_없어야한다() {
+        //Given
+        Long teamA = saveTeam("teamA");
+        Long teamB = saveTeam("teamB");
+        Long memberId = saveMembers(1).get(0);
+        teamMembershipService.join(memberId, teamA);
+
+        //When
+        Throwable thrown = catchThrowable(() -> teamMembershipService.join(memberId, teamB));
+
+        //Then
+        assertThat(thrown).hasMessage("이미 팀에 가입되어있습니다.");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void 트랜잭션_안에서는_재시도할_수_없어야한다() {
+        transactionTemplate.execute(status -> retryExecutor.execute(() -> null));
+    }
+}
@@ -0,0 +1,213 @@
+package me.jpa.usageref.service;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.domain.Member;
+import me.jpa.usageref.domain.Team;
+import me.jpa.usageref.dto.TeamStatsItem;
+import me.jpa.usageref.dto.TeamStatsReconcileReport;
+import me.jpa.usageref.search.MemberSearchIndexer;
+import me.jpa.usageref.stats.TeamStatsConfiguration;
+import me.jpa.usageref.stats.TeamStatsReconciler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({TeamStatsConfiguration.class, TeamStatsService.class, MemberBulkUpdater.class, MemberSearchIndexer.class})
+@Description({
+        "팀별 통계를 매번 member 테이블을 group by 해서 계산하면 멤버 수에 비례하는 비용이 든다.",
+        "멤버가 변경될 때마다 team_stats 를 증분으로 갱신해두면 통계 조회는 팀 수에 비례하는 비용만 든다."
+})
+public class TeamStatsServiceTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TeamStatsService teamStatsService;
+
+    @Autowired
+    private TeamStatsReconciler teamStatsReconciler;
+
+    @Autowired
+    private MemberBulkUpdater memberBulkUpdater;
+
+    @Test
+    public void 팀을_저장하면_비어있는_통계가_만들어져야한다() {
+        //Given
+        teamNamed("teamA");
+
+        //When
+        entityManager.flush();
+
+        //Then
+        TeamStatsItem stats = teamStatsService.findByTeamName("teamA").orElseThrow(IllegalStateException::new);
+        assertThat(stats.getMemberCount()).isZero();
+        assertThat(stats.getMinAge()).isNull();
+        assertThat(stats.getAverageAge()).isNull();
+    }
+
+    private Team teamNamed(String name) {
+        Team team = Team.builder().name(name).build();
+        entityManager.persist(team);
+        return team;
+    }
+
+    private List<Member> saveMembers(Team team, int... ages) {
+        return IntStream.of(ages)
+                .mapToObj(age -> {
+                    Member member = Member.builder().name("member" + age).age(age).build();
+                    member.joinTeam(team);
+                    entityManager.persist(member);
+                    return member;
+                })
+                .collect(toList());
+    }
+
+    @Test
+    @Description("JpqlTest.groupBy_and_having_절_테스트 의 집계 결과와 같은 값을 team_stats 에서 읽어야 한다.")
+    public void 멤버가_팀에_가입하면_통계가_갱신되어야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        Team teamB = teamNamed("teamB");
+        saveMembers(teamA, 2, 4, 6, 8, 10);
+        saveMembers(teamB, 1, 3, 5, 7, 9);
+
+        //When
+        entityManager.flush();
+
+        //Then
+        List<TeamStatsItem> stats = teamStatsService.findAll();
+        assertThat(stats).containsExactlyElementsOf(teamStatsService.aggregate());
+        assertThat(stats.get(0).getMemberCount()).isEqualTo(5);
+        assertThat(stats.get(0).getAgeSum()).isEqualTo(30);
+        assertThat(stats.get(0).getAverageAge()).isEqualTo(6.0);
+        assertThat(stats.get(1).getMinAge()).isEqualTo(1);
+        assertThat(stats.get(1).getMaxAge()).isEqualTo(9);
+    }
+
+    @Test
+    public void 팀이_없던_멤버가_팀에_가입하면_통계에_포함되어야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        Member member = Member.builder().name("member").age(20).build();
+        entityManager.persist(member);
+        entityManager.flush();
+
+        //When
+        member.joinTeam(teamA);
+        entityManager.flush();
+
+        //Then
+        TeamStatsItem stats = teamStatsService.findByTeamName("teamA").orElseThrow(IllegalStateException::new);
+        assertThat(stats.getMemberCount()).isOne();
+        assertThat(stats.getMaxAge()).isEqualTo(20);
+    }
+
+    @Test
+    @Description("최솟값, 최댓값이었던 멤버가 삭제되거나 나이가 바뀌면 남아있는 멤버로 다시 계산해야 한다.")
+    public void 최솟값과_최댓값이_빠지면_다시_계산되어야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        List<Member> members = saveMembers(teamA, 10, 20, 30, 40);
+        entityManager.flush();
+
+        //When
+        entityManager.remove(members.get(0));
+        members.get(3).changeAge(25);
+        members.get(1).changeAge(21);
+        entityManager.flush();
+
+        //Then
+        TeamStatsItem stats = teamStatsService.findByTeamName("teamA").orElseThrow(IllegalStateException::new);
+        assertThat(stats.getMemberCount()).isEqualTo(3);
+        assertThat(stats.getAgeSum()).isEqualTo(21 + 30 + 25);
+        assertThat(stats.getMinAge()).isEqualTo(21);
+        assertThat(stats.getMaxAge()).isEqualTo(30);
+        assertThat(teamStatsService.findMismatchedTeamNames()).isEmpty();
+    }
+
+    @Test
+    @Description("멤버를 저장할 때마다가 아니라 flush 마다 팀별로 한 번씩만 통계를 갱신하기 때문에 INSERT batch 가 유지되어야 한다.")
+    public void 통계_갱신이_멤버_INSERT_batch_를_끊지_않아야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        entityManager.flush();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        saveMembers(teamA, IntStream.range(0, 50).toArray());
+        entityManager.flush();
+
+        //Then
+        assertThat(counter.getExecutedBatchCount()).isOne();
+        assertThat(teamStatsService.findByTeamName("teamA").map(TeamStatsItem::getMemberCount)).contains(50L);
+    }
+
+    @Test
+    public void 통계_조회는_한번의_SQL_로_실행되어야한다() {
+        //Given
+        IntStream.range(0, 100).forEach(i -> saveMembers(teamNamed("team" + i), i, i + 1));
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        List<TeamStatsItem> stats = teamStatsService.findAll();
+
+        //Then
+        assertThat(stats).hasSize(100);
+        assertThat(counter.getExecutedStatementCount()).isOne();
+    }
+
+    @Test
+    @Description("벌크 연산은 event listener 를 거치지 않기 때문에 연산 후 변경된 팀의 team_stats 를 다시 계산해야 한다.")
+    public void 벌크_연산_후에도_통계가_일치해야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        teamNamed("teamB");
+        saveMembers(teamA, 10, 20, 30);
+
+        //When
+        memberBulkUpdater.increaseAge(15, 5);
+        memberBulkUpdater.moveTeam("teamA", "teamB");
+
+        //Then
+        assertThat(teamStatsService.findMismatchedTeamNames()).isEmpty();
+        assertThat(teamStatsService.findByTeamName("teamB").map(TeamStatsItem::getAgeSum)).contains(70L);
+    }
+
+    @Test
+    public void 통계가_실제_집계와_다르면_다시_만들어야한다() {
+        //Given
+        Team teamA = teamNamed("teamA");
+        saveMembers(teamA, 10, 20);
+        entityManager.flush();
+        entityManager.createNativeQuery("update team_stats set member_count = 100").executeUpdate();
+
+        //When
+        TeamStatsReconcileReport report = teamStatsReconciler.reconcile();
+
+        //Then
+        assertThat(report.getMismatchedTeamNames()).containsExactly("teamA");
+        assertThat(report.isRebuilt()).isTrue();
+        assertThat(teamStatsService.findMismatchedTeamNames()).isEmpty();
+        assertThat(teamStatsReconciler.reconcile().isRebuilt()).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package me.jpa.usageref.warmup;
+
+import me.jpa.usageref.common.Description;
+import me.jpa.usageref.common.SqlStatementCounter;
+import me.jpa.usageref.dto.QueryWarmUpReport;
+import me.jpa.usageref.repository.MemberRepository;
+import me.jpa.usageref.repository.OrdersRepository;
+import me.jpa.usageref.repository.ProductRepository;
+import me.jpa.usageref.repository.TeamRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.repository.Repository;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Minhyuk Yoon (ymh92730@gmail.com)
+ * @since 2026-10-17
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(QueryWarmUpConfiguration.class)
+@Description({
+        "Named query 는 부팅 시 hibernate.query.startup_check 로 파싱되어 query plan 캐시에 저장되고,",
+        "QueryPlanCacheWarmer 가 파라미터가 있는 query 를 한 번씩 실행해서 첫 요청에서 발생하는 준비 비용을 부팅 시간으로 옮긴다."
+})
+public class QueryPlanCacheWarmerTest {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryPlanCacheWarmer queryPlanCacheWarmer;
+
+    @Test
+    public void 부팅시_모든_named_query_를_준비해야한다() {
+        //When
+        QueryWarmUpReport report = queryPlanCacheWarmer.getLastReport();
+
+        //Then
+        assertThat(report.getQueryNames()).containsExactly(
+                "Member.allWithTeam", "Member.byIds", "Member.countByMinAge", "Member.items", "Member.itemsByMinAge", "Member.itemsByName",
+                "Orders.all", "Orders.items",
+                "Team.all", "Team.byName", "Team.byNames", "Team.items", "Team.memberStats");
+        assertThat(report.getExecutedCount()).isEqualTo(6);
+    }
+
+    @Test
+    @Description("파라미터가 없는 query 는 전체 테이블을 읽을 수 있으므로 파라미터가 있는 query 만 실행해야 한다.")
+    public void 파라미터가_있는_named_query_만_실행해야한다() {
+        //Given
+        SqlStatementCounter counter = SqlStatementCounter.attachTo(entityManager);
+
+        //When
+        QueryWarmUpReport report = queryPlanCacheWarmer.warmUp();
+
+        //Then
+        assertThat(counter.getExecutedStatementCount()).isEqualTo(report.getExecutedCount());
+    }
+
+    @Test
+    @Description({
+            "Spring Data JPA 는 repository 메서드를 실행할 때 {엔티티 이름}.{메서드 이름} 의 named query 를 먼저 찾는다.",
+            "Named query 의 이름이 repository 메서드와 같으면 메서드 이름으로 만든 query 대신 named query 가 실행되므로 이름이 겹치지 않아야 한다."
+    })
+    public void named_query_이름은_repository_메서드와_겹치지_않아야한다() {
+        //Given
+        List<String> repositoryQueryNames = Stream.of(MemberRepository.class, TeamRepository.class, OrdersRepository.class, ProductRepository.class)
+                .flatMap(this::toNamedQueryLookupNames)
+                .collect(toList());
+
+        //When
+        List<String> queryNames = queryPlanCacheWarmer.getLastReport().getQueryNames();
+
+        //Then
+        assertThat(queryNames).doesNotContainAnyElementsOf(repositoryQueryNames);
+    }
+
+    private Stream<String> toNamedQueryLookupNames(Class<?> repositoryType) {
+        String entityName = ResolvableType.forClass(repositoryType).as(Repository.class).resolveGeneric(0).getSimpleName();
+        return Stream.of(repositoryType.getMethods())
+                .map(method -> entityName + "." + method.getName());
+    }
+}